@@ -0,0 +1,193 @@
+package Algoritm;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import Models.*;
+
+public class Boruvka {
+    public static class Result {
+        public List<Edges> mst;
+        public double totalCost;
+        public long timeMs;
+        public Map<String, Long> ops;
+
+        public Result(List<Edges> mst, double totalCost, long timeMs, Map<String, Long> ops) {
+            this.mst = mst;
+            this.totalCost = totalCost;
+            this.timeMs = timeMs;
+            this.ops = ops;
+        }
+    }
+
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
+    public static Result run(Graphs g) {
+        return run(g, ForkJoinPool.commonPool());
+    }
+
+    public static Result run(Graphs g, ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+
+        Edges[] edges = g.edges().toArray(new Edges[0]);
+        int V = g.vertices();
+        double[] w = new double[edges.length];
+        for (int i = 0; i < edges.length; i++)
+            w[i] = edges[i].w;
+
+        int[] comp = new int[V];
+        for (int i = 0; i < V; i++)
+            comp[i] = i;
+        AtomicIntegerArray cheapest = new AtomicIntegerArray(V);
+        UnionFind uf = UnionFind.concurrent(V);
+        int[] chosen = new int[Math.max(V - 1, 0)];
+
+        List<Edges> mst = new ArrayList<>();
+        long comparisons = 0, rounds = 0;
+
+        while (mst.size() < V - 1) {
+            rounds++;
+            for (int c = 0; c < V; c++)
+                cheapest.set(c, -1);
+
+            comparisons += pool.invoke(new CheapestEdgeTask(edges, w, comp, cheapest, 0, edges.length));
+
+            // Each distinct cheapest edge is kept once: by its only chooser, or by the lower of the two
+            // components when both picked it. With ties broken by index the chosen edges form a forest.
+            int added = 0;
+            for (int c = 0; c < V; c++) {
+                int id = cheapest.get(c);
+                if (id < 0)
+                    continue;
+                Edges e = edges[id];
+                int other = comp[e.u] == c ? comp[e.v] : comp[e.u];
+                if (cheapest.get(other) != id || c < other)
+                    chosen[added++] = id;
+            }
+            if (added == 0)
+                break;
+
+            pool.invoke(new ContractTask(edges, chosen, uf, 0, added));
+            for (int i = 0; i < added; i++)
+                mst.add(edges[chosen[i]]);
+
+            pool.invoke(new RelabelTask(comp, uf, 0, V));
+        }
+
+        double total = mst.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", comparisons);
+        ops.put("finds", uf.finds());
+        ops.put("unions", uf.unions());
+        ops.put("rounds", rounds);
+
+        return new Result(mst, total, timeMs, ops);
+    }
+
+    private static class CheapestEdgeTask extends RecursiveTask<Long> {
+        final Edges[] edges;
+        final double[] w;
+        final int[] comp;
+        final AtomicIntegerArray cheapest;
+        final int lo, hi;
+
+        CheapestEdgeTask(Edges[] edges, double[] w, int[] comp, AtomicIntegerArray cheapest, int lo, int hi) {
+            this.edges = edges;
+            this.w = w;
+            this.comp = comp;
+            this.cheapest = cheapest;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Long compute() {
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                CheapestEdgeTask left = new CheapestEdgeTask(edges, w, comp, cheapest, lo, mid);
+                CheapestEdgeTask right = new CheapestEdgeTask(edges, w, comp, cheapest, mid, hi);
+                left.fork();
+                long r = right.compute();
+                return r + left.join();
+            }
+
+            long comparisons = 0;
+            for (int i = lo; i < hi; i++) {
+                Edges e = edges[i];
+                int cu = comp[e.u];
+                int cv = comp[e.v];
+                comparisons++;
+                if (cu != cv) {
+                    offer(cu, i);
+                    offer(cv, i);
+                }
+            }
+            return comparisons;
+        }
+
+        private void offer(int c, int id) {
+            int cur;
+            while ((cur = cheapest.get(c)) < 0 || EdgeOrder.before(id, cur, w)) {
+                if (cheapest.compareAndSet(c, cur, id))
+                    return;
+            }
+        }
+    }
+
+    private static class ContractTask extends RecursiveAction {
+        final Edges[] edges;
+        final int[] chosen;
+        final UnionFind uf;
+        final int lo, hi;
+
+        ContractTask(Edges[] edges, int[] chosen, UnionFind uf, int lo, int hi) {
+            this.edges = edges;
+            this.chosen = chosen;
+            this.uf = uf;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new ContractTask(edges, chosen, uf, lo, mid), new ContractTask(edges, chosen, uf, mid, hi));
+                return;
+            }
+            for (int i = lo; i < hi; i++) {
+                Edges e = edges[chosen[i]];
+                uf.union(e.u, e.v);
+            }
+        }
+    }
+
+    private static class RelabelTask extends RecursiveAction {
+        final int[] comp;
+        final UnionFind uf;
+        final int lo, hi;
+
+        RelabelTask(int[] comp, UnionFind uf, int lo, int hi) {
+            this.comp = comp;
+            this.uf = uf;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new RelabelTask(comp, uf, lo, mid), new RelabelTask(comp, uf, mid, hi));
+                return;
+            }
+            for (int v = lo; v < hi; v++)
+                comp[v] = uf.find(v);
+        }
+    }
+}
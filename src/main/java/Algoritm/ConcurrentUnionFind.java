@@ -0,0 +1,86 @@
+package Algoritm;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ConcurrentUnionFind implements UnionFind {
+    private final AtomicIntegerArray parent;
+    private final LongAdder finds = new LongAdder();
+    private final LongAdder unions = new LongAdder();
+
+    public ConcurrentUnionFind(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    public int size() {
+        return parent.length();
+    }
+
+    public int find(int x) {
+        finds.increment();
+        int p;
+        while ((p = parent.get(x)) != x) {
+            int gp = parent.get(p);
+            if (gp != p)
+                parent.compareAndSet(x, p, gp);
+            x = gp;
+        }
+        return x;
+    }
+
+    public boolean union(int a, int b) {
+        unions.increment();
+        while (true) {
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb)
+                return false;
+
+            // Roots are always linked below the root of higher priority, so concurrent links can never form a
+            // cycle; hashed priorities keep the expected tree depth logarithmic without maintaining ranks.
+            if (higher(ra, rb)) {
+                int t = ra;
+                ra = rb;
+                rb = t;
+            }
+            if (parent.compareAndSet(ra, ra, rb))
+                return true;
+        }
+    }
+
+    public boolean connected(int a, int b) {
+        while (true) {
+            int ra = find(a);
+            int rb = find(b);
+            if (ra == rb)
+                return true;
+            if (parent.get(ra) == ra)
+                return false;
+        }
+    }
+
+    public long finds() {
+        return finds.sum();
+    }
+
+    public long unions() {
+        return unions.sum();
+    }
+
+    private static boolean higher(int a, int b) {
+        int pa = priority(a);
+        int pb = priority(b);
+        return pa > pb || (pa == pb && a > b);
+    }
+
+    private static int priority(int x) {
+        int h = x * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -0,0 +1,195 @@
+package Algoritm;
+
+import java.util.*;
+import Models.*;
+
+public class DynamicMst {
+    private final int V;
+    private final List<List<Edges>> tree;
+    // Tree edges in insertion order; cut edges leave a null hole that is compacted away once holes dominate.
+    private final List<Edges> order = new ArrayList<>();
+    private final Map<Edges, Integer> position = new IdentityHashMap<>();
+    private int holes = 0;
+    private double totalCost = 0;
+
+    private final Edges[] parentEdge;
+    private final int[] parent;
+    private final int[] seen;
+    private final int[] stack;
+    private int stamp = 0;
+
+    private long inserts = 0;
+    private long swaps = 0;
+    private long rejected = 0;
+    private long links = 0;
+    private long visited = 0;
+
+    public DynamicMst(int V, List<Edges> mst) {
+        this.V = V;
+        this.tree = new ArrayList<>(V);
+        for (int i = 0; i < V; i++)
+            tree.add(new ArrayList<>());
+        this.parentEdge = new Edges[V];
+        this.parent = new int[V];
+        this.seen = new int[V];
+        this.stack = new int[V];
+
+        // Union-find keeps seeding near-linear; the forest search is only needed for insert.
+        UnionFind uf = UnionFind.sequential(V);
+        for (Edges e : mst) {
+            checkRange(e);
+            if (!uf.union(e.u, e.v))
+                throw new IllegalArgumentException("Initial edges contain a cycle at (" + e.u + ", " + e.v + ")");
+            link(e);
+        }
+    }
+
+    public static DynamicMst from(Graphs g) {
+        return new DynamicMst(g.vertices(), Kruskal.run(g).mst);
+    }
+
+    public Edges insert(int u, int v, double w) {
+        return insert(new Edges(u, v, w));
+    }
+
+    // Returns the edge left out of the tree: the heaviest edge on the cycle, or null when e joins two trees.
+    public Edges insert(Edges e) {
+        checkRange(e);
+        inserts++;
+        if (e.u == e.v) {
+            rejected++;
+            return e;
+        }
+        if (!findPath(e.u, e.v)) {
+            links++;
+            link(e);
+            return null;
+        }
+
+        Edges max = null;
+        for (int x = e.v; x != e.u; x = parent[x]) {
+            Edges p = parentEdge[x];
+            if (max == null || p.w > max.w)
+                max = p;
+        }
+        if (e.w >= max.w) {
+            rejected++;
+            return e;
+        }
+        swaps++;
+        cut(max);
+        link(e);
+        return max;
+    }
+
+    public boolean contains(Edges e) {
+        return position.containsKey(e);
+    }
+
+    public boolean connected(int u, int v) {
+        return u == v || findPath(u, v);
+    }
+
+    public double totalCost() {
+        return totalCost;
+    }
+
+    public int size() {
+        return position.size();
+    }
+
+    public int vertices() {
+        return V;
+    }
+
+    public List<Edges> edges() {
+        List<Edges> result = new ArrayList<>(position.size());
+        for (Edges e : order) {
+            if (e != null)
+                result.add(e);
+        }
+        return result;
+    }
+
+    public Map<String, Long> ops() {
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("inserts", inserts);
+        ops.put("swaps", swaps);
+        ops.put("rejected", rejected);
+        ops.put("links", links);
+        ops.put("visited", visited);
+        return ops;
+    }
+
+    private void link(Edges e) {
+        tree.get(e.u).add(e);
+        tree.get(e.v).add(e);
+        position.put(e, order.size());
+        order.add(e);
+        totalCost += e.w;
+    }
+
+    private void cut(Edges e) {
+        removeIdentity(tree.get(e.u), e);
+        removeIdentity(tree.get(e.v), e);
+        order.set(position.remove(e), null);
+        totalCost -= e.w;
+        if (++holes > order.size() / 2)
+            compact();
+    }
+
+    private void compact() {
+        int n = 0;
+        for (Edges e : order) {
+            if (e == null)
+                continue;
+            position.put(e, n);
+            order.set(n++, e);
+        }
+        order.subList(n, order.size()).clear();
+        holes = 0;
+    }
+
+    private void checkRange(Edges e) {
+        if (e.u < 0 || e.u >= V || e.v < 0 || e.v >= V)
+            throw new IllegalArgumentException("Edge (" + e.u + ", " + e.v + ") is outside 0.." + (V - 1));
+    }
+
+    private static void removeIdentity(List<Edges> list, Edges e) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == e) {
+                list.set(i, list.get(list.size() - 1));
+                list.remove(list.size() - 1);
+                return;
+            }
+        }
+    }
+
+    // Depth-first search over the forest from u; on success parent/parentEdge describe the path back from v.
+    private boolean findPath(int u, int v) {
+        if (++stamp == 0) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        int top = 0;
+        stack[top++] = u;
+        seen[u] = stamp;
+        parent[u] = -1;
+        while (top > 0) {
+            int x = stack[--top];
+            visited++;
+            if (x == v)
+                return true;
+            for (Edges e : tree.get(x)) {
+                int y = e.u == x ? e.v : e.u;
+                if (seen[y] == stamp)
+                    continue;
+                seen[y] = stamp;
+                parent[y] = x;
+                parentEdge[y] = e;
+                stack[top++] = y;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package Algoritm;
+
+import java.util.*;
+
+public class EdgeIndexHeap {
+    private double[] keys;
+    private int[] ids;
+    private int size = 0;
+
+    public EdgeIndexHeap(int capacity) {
+        this.keys = new double[Math.max(capacity, 1)];
+        this.ids = new int[Math.max(capacity, 1)];
+    }
+
+    public static EdgeIndexHeap heapify(double[] keys) {
+        int n = keys.length;
+        EdgeIndexHeap heap = new EdgeIndexHeap(n);
+        System.arraycopy(keys, 0, heap.keys, 0, n);
+        for (int i = 0; i < n; i++)
+            heap.ids[i] = i;
+        heap.size = n;
+        for (int i = (n >>> 1) - 1; i >= 0; i--)
+            heap.siftDown(i, heap.keys[i], heap.ids[i]);
+        return heap;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void push(double key, int id) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(key, id, keys[parent], ids[parent]))
+                break;
+            keys[i] = keys[parent];
+            ids[i] = ids[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        ids[i] = id;
+    }
+
+    public double minKey() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+        return keys[0];
+    }
+
+    public int minId() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+        return ids[0];
+    }
+
+    public int pop() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+        int min = ids[0];
+        size--;
+        if (size > 0)
+            siftDown(0, keys[size], ids[size]);
+        return min;
+    }
+
+    private void siftDown(int i, double key, int id) {
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && less(keys[right], ids[right], keys[child], ids[child]))
+                child = right;
+            if (!less(keys[child], ids[child], key, id))
+                break;
+            keys[i] = keys[child];
+            ids[i] = ids[child];
+            i = child;
+        }
+        keys[i] = key;
+        ids[i] = id;
+    }
+
+    private static boolean less(double k1, int id1, double k2, int id2) {
+        return k1 < k2 || (k1 == k2 && id1 < id2);
+    }
+}
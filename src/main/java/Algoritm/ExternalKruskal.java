@@ -0,0 +1,223 @@
+package Algoritm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import Models.*;
+
+public class ExternalKruskal {
+    public static final int DEFAULT_RUN_EDGES = 1 << 20;
+    private static final int RECORD_BYTES = 16;
+    private static final int BUFFER_RECORDS = 1 << 12;
+
+    public static Kruskal.Result run(EdgeList g) throws IOException {
+        return run(g, DEFAULT_RUN_EDGES, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    public static Kruskal.Result run(EdgeList g, int runEdges, Path tempDir) throws IOException {
+        long startTime = System.nanoTime();
+        try (Spiller spiller = new Spiller(runEdges, tempDir)) {
+            int E = g.edgeCount();
+            for (int e = 0; e < E; e++)
+                spiller.add(g.edgeU(e), g.edgeV(e), g.edgeWeight(e));
+            return spiller.finish(g.vertices(), startTime);
+        }
+    }
+
+    public static Kruskal.Result run(int V, Iterator<Edges> edges, int runEdges, Path tempDir) throws IOException {
+        long startTime = System.nanoTime();
+        try (Spiller spiller = new Spiller(runEdges, tempDir)) {
+            while (edges.hasNext()) {
+                Edges e = edges.next();
+                spiller.add(e.u, e.v, e.w);
+            }
+            return spiller.finish(V, startTime);
+        }
+    }
+
+    private static class Spiller implements AutoCloseable {
+        final Path tempDir;
+        final int[] u;
+        final int[] v;
+        final double[] w;
+        int n = 0;
+        final List<Path> runs = new ArrayList<>();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long spilled = 0;
+
+        Spiller(int runEdges, Path tempDir) {
+            if (runEdges < 1)
+                throw new IllegalArgumentException("Run size must be positive");
+            this.tempDir = tempDir;
+            this.u = new int[runEdges];
+            this.v = new int[runEdges];
+            this.w = new double[runEdges];
+        }
+
+        void add(int a, int b, double weight) throws IOException {
+            if (n == u.length)
+                spill();
+            u[n] = a;
+            v[n] = b;
+            w[n] = weight;
+            n++;
+        }
+
+        int[] sortedRun() {
+            return EdgeOrder.sorted(n == w.length ? w : Arrays.copyOf(w, n), false);
+        }
+
+        void spill() throws IOException {
+            int[] order = sortedRun();
+            Path file = Files.createTempFile(tempDir, "kruskal-run-", ".bin");
+            runs.add(file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                buffer.clear();
+                for (int id : order) {
+                    if (!buffer.hasRemaining()) {
+                        writeFully(channel);
+                        buffer.clear();
+                    }
+                    buffer.putInt(u[id]).putInt(v[id]).putDouble(w[id]);
+                }
+                writeFully(channel);
+            }
+            spilled += n;
+            n = 0;
+        }
+
+        void writeFully(FileChannel channel) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        }
+
+        Kruskal.Result finish(int V, long startTime) throws IOException {
+            Scan scan = new Scan(V);
+            long merged = 0;
+            if (runs.isEmpty()) {
+                // Everything fit in one run, so there is nothing to spill or merge.
+                for (int id : sortedRun()) {
+                    if (scan.accept(u[id], v[id], w[id]))
+                        break;
+                }
+            } else {
+                if (n > 0)
+                    spill();
+                merged = merge(scan);
+            }
+
+            Map<String, Long> ops = scan.ops();
+            ops.put("runs", (long) runs.size());
+            ops.put("spilledEdges", spilled);
+            ops.put("bytesWritten", spilled * RECORD_BYTES);
+            ops.put("mergedEdges", merged);
+
+            double total = scan.mst.stream().mapToDouble(x -> x.w).sum();
+            long timeMs = (System.nanoTime() - startTime) / 1_000_000;
+            return new Kruskal.Result(scan.mst, total, timeMs, ops);
+        }
+
+        // K-way merge keyed by weight; heap ties go to the lower run index, which keeps the global order stable.
+        long merge(Scan scan) throws IOException {
+            RunReader[] readers = new RunReader[runs.size()];
+            EdgeIndexHeap heap = new EdgeIndexHeap(readers.length);
+            long merged = 0;
+            try {
+                for (int r = 0; r < readers.length; r++) {
+                    readers[r] = new RunReader(runs.get(r));
+                    if (readers[r].next())
+                        heap.push(readers[r].w, r);
+                }
+                while (!heap.isEmpty()) {
+                    int r = heap.pop();
+                    RunReader reader = readers[r];
+                    merged++;
+                    if (scan.accept(reader.u, reader.v, reader.w))
+                        break;
+                    if (reader.next())
+                        heap.push(reader.w, r);
+                }
+            } finally {
+                for (RunReader reader : readers) {
+                    if (reader != null)
+                        reader.close();
+                }
+            }
+            return merged;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (Path file : runs)
+                Files.deleteIfExists(file);
+        }
+    }
+
+    private static class RunReader implements AutoCloseable {
+        final FileChannel channel;
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        int u, v;
+        double w;
+
+        RunReader(Path file) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            buffer.limit(0);
+        }
+
+        boolean next() throws IOException {
+            if (buffer.remaining() < RECORD_BYTES) {
+                buffer.compact();
+                while (buffer.position() < RECORD_BYTES) {
+                    if (channel.read(buffer) < 0)
+                        break;
+                }
+                buffer.flip();
+                if (buffer.remaining() < RECORD_BYTES)
+                    return false;
+            }
+            u = buffer.getInt();
+            v = buffer.getInt();
+            w = buffer.getDouble();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static class Scan {
+        final int V;
+        final UnionFind uf;
+        final List<Edges> mst = new ArrayList<>();
+        long comparisons = 0;
+
+        Scan(int V) {
+            this.V = V;
+            this.uf = UnionFind.sequential(V);
+        }
+
+        boolean accept(int a, int b, double weight) {
+            comparisons++;
+            if (uf.find(a) != uf.find(b) && uf.union(a, b))
+                mst.add(new Edges(a, b, weight));
+            return mst.size() >= V - 1;
+        }
+
+        Map<String, Long> ops() {
+            Map<String, Long> ops = new HashMap<>();
+            ops.put("comparisons", comparisons);
+            ops.put("finds", uf.finds());
+            ops.put("unions", uf.unions());
+            return ops;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package Algoritm;
+
+import java.util.*;
+import Models.*;
+
+public class FullyDynamicMst {
+    // The current weight lives here only; the caller's Edges keeps the weight it was inserted with.
+    private static class Entry {
+        final Edges edge;
+        final long id;
+        double w;
+        int node = -1;
+        int slot = -1;
+
+        Entry(Edges edge, long id) {
+            this.edge = edge;
+            this.id = id;
+            this.w = edge.w;
+        }
+    }
+
+    private static final Comparator<Entry> BY_WEIGHT =
+            Comparator.<Entry>comparingDouble(x -> x.w).thenComparingLong(x -> x.id);
+
+    private final int V;
+    private final LinkCutTree lct;
+    private final Map<Edges, Entry> entries = new IdentityHashMap<>();
+    private final List<List<Entry>> treeAdj;
+    private final List<List<Entry>> nonTreeAdj;
+    private Entry[] owner;
+    private long nextId = 0;
+    private double totalCost = 0;
+    private int treeSize = 0;
+    // Tree edges in the order they joined the tree; cut edges leave a null hole that is compacted away later.
+    private final List<Entry> treeOrder = new ArrayList<>();
+    private int holes = 0;
+
+    private final int[] mark;
+    private final int[] queueA;
+    private final int[] queueB;
+    private int stamp = 0;
+
+    private long inserts = 0;
+    private long deletes = 0;
+    private long updates = 0;
+    private long swaps = 0;
+    private long replacements = 0;
+    private long replacementScans = 0;
+
+    public FullyDynamicMst(int V) {
+        this.V = V;
+        this.lct = new LinkCutTree(2 * V);
+        this.owner = new Entry[2 * Math.max(V, 1)];
+        this.treeAdj = new ArrayList<>(V);
+        this.nonTreeAdj = new ArrayList<>(V);
+        for (int i = 0; i < V; i++) {
+            treeAdj.add(new ArrayList<>());
+            nonTreeAdj.add(new ArrayList<>());
+        }
+        this.mark = new int[V];
+        this.queueA = new int[V];
+        this.queueB = new int[V];
+        // Vertices never win a path-max query; every tree edge is its own node carrying the weight.
+        for (int i = 0; i < V; i++)
+            lct.addNode(Double.NEGATIVE_INFINITY);
+    }
+
+    public static FullyDynamicMst from(Graphs g) {
+        FullyDynamicMst dynamic = new FullyDynamicMst(g.vertices());
+        List<Edges> sorted = new ArrayList<>(g.edges());
+        Collections.sort(sorted);
+        // Inserting in weight order never swaps, so this is Kruskal with the link-cut tree as the connectivity test.
+        for (Edges e : sorted)
+            dynamic.insert(e);
+        return dynamic;
+    }
+
+    public void insert(Edges e) {
+        if (e.u < 0 || e.u >= V || e.v < 0 || e.v >= V)
+            throw new IllegalArgumentException("Edge (" + e.u + ", " + e.v + ") is outside 0.." + (V - 1));
+        if (entries.containsKey(e))
+            throw new IllegalArgumentException("Edge " + e + " is already present");
+        inserts++;
+        Entry en = new Entry(e, nextId++);
+        entries.put(e, en);
+        offer(en);
+    }
+
+    public boolean delete(Edges e) {
+        Entry en = entries.remove(e);
+        if (en == null)
+            return false;
+        deletes++;
+        if (en.node < 0) {
+            removeNonTree(en);
+            return true;
+        }
+        cutTree(en);
+        Entry replacement = lightestCrossing(e.u, e.v);
+        if (replacement != null) {
+            removeNonTree(replacement);
+            linkTree(replacement);
+            replacements++;
+        }
+        return true;
+    }
+
+    public void updateWeight(Edges e, double w) {
+        Entry en = entries.get(e);
+        if (en == null)
+            throw new IllegalArgumentException("Edge " + e + " is not present");
+        updates++;
+        double old = en.w;
+
+        if (en.node < 0) {
+            removeNonTree(en);
+            en.w = w;
+            offer(en);
+            return;
+        }
+
+        if (w <= old) {
+            en.w = w;
+            lct.setValue(en.node, w);
+            totalCost += w - old;
+            return;
+        }
+
+        // A heavier tree edge stays only if no non-tree edge across its cut is now lighter.
+        cutTree(en);
+        en.w = w;
+        Entry replacement = lightestCrossing(e.u, e.v);
+        if (replacement != null && replacement.w < w) {
+            removeNonTree(replacement);
+            linkTree(replacement);
+            addNonTree(en);
+            replacements++;
+        } else {
+            linkTree(en);
+        }
+    }
+
+    public double weight(Edges e) {
+        Entry en = entries.get(e);
+        if (en == null)
+            throw new IllegalArgumentException("Edge " + e + " is not present");
+        return en.w;
+    }
+
+    public boolean contains(Edges e) {
+        return entries.containsKey(e);
+    }
+
+    public boolean inTree(Edges e) {
+        Entry en = entries.get(e);
+        return en != null && en.node >= 0;
+    }
+
+    public boolean connected(int u, int v) {
+        return lct.connected(u, v);
+    }
+
+    public double totalCost() {
+        return totalCost;
+    }
+
+    public int size() {
+        return treeSize;
+    }
+
+    public int edgeCount() {
+        return entries.size();
+    }
+
+    public int vertices() {
+        return V;
+    }
+
+    public List<Edges> treeEdges() {
+        List<Edges> tree = new ArrayList<>(treeSize);
+        for (Entry en : treeOrder) {
+            if (en != null)
+                tree.add(en.edge);
+        }
+        return tree;
+    }
+
+    public Map<String, Long> ops() {
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("inserts", inserts);
+        ops.put("deletes", deletes);
+        ops.put("updates", updates);
+        ops.put("swaps", swaps);
+        ops.put("replacements", replacements);
+        ops.put("replacementScans", replacementScans);
+        ops.put("rotations", lct.rotations());
+        return ops;
+    }
+
+    private void offer(Entry en) {
+        Edges e = en.edge;
+        // Self-loops can never cross a cut, so they are kept out of the endpoint index.
+        if (e.u == e.v)
+            return;
+        if (!lct.connected(e.u, e.v)) {
+            linkTree(en);
+            return;
+        }
+        Entry heaviest = owner[lct.pathMax(e.u, e.v)];
+        if (en.w < heaviest.w) {
+            cutTree(heaviest);
+            addNonTree(heaviest);
+            linkTree(en);
+            swaps++;
+        } else {
+            addNonTree(en);
+        }
+    }
+
+    // After cutting (a, b) the two sides are searched in lockstep and the first one to run out is the smaller.
+    // Every non-tree edge joins two vertices of one tree, so an edge leaving that side crosses to the other.
+    private Entry lightestCrossing(int a, int b) {
+        stamp += 2;
+        if (stamp < 0) {
+            Arrays.fill(mark, 0);
+            stamp = 2;
+        }
+        int markA = stamp - 1, markB = stamp;
+        int headA = 0, tailA = 0, headB = 0, tailB = 0;
+        queueA[tailA++] = a;
+        mark[a] = markA;
+        queueB[tailB++] = b;
+        mark[b] = markB;
+
+        int[] side;
+        int size, sideMark;
+        while (true) {
+            if (headA == tailA) {
+                side = queueA;
+                size = tailA;
+                sideMark = markA;
+                break;
+            }
+            tailA = expand(queueA[headA++], queueA, tailA, markA);
+            if (headB == tailB) {
+                side = queueB;
+                size = tailB;
+                sideMark = markB;
+                break;
+            }
+            tailB = expand(queueB[headB++], queueB, tailB, markB);
+        }
+
+        Entry best = null;
+        for (int i = 0; i < size; i++) {
+            int x = side[i];
+            for (Entry f : nonTreeAdj.get(x)) {
+                replacementScans++;
+                int y = f.edge.other(x);
+                if (mark[y] != sideMark && (best == null || BY_WEIGHT.compare(f, best) < 0))
+                    best = f;
+            }
+        }
+        return best;
+    }
+
+    private int expand(int x, int[] queue, int tail, int m) {
+        replacementScans++;
+        for (Entry t : treeAdj.get(x)) {
+            int y = t.edge.other(x);
+            if (mark[y] != m) {
+                mark[y] = m;
+                queue[tail++] = y;
+            }
+        }
+        return tail;
+    }
+
+    private void addNonTree(Entry en) {
+        nonTreeAdj.get(en.edge.u).add(en);
+        nonTreeAdj.get(en.edge.v).add(en);
+    }
+
+    private void removeNonTree(Entry en) {
+        if (en.edge.u == en.edge.v)
+            return;
+        removeIdentity(nonTreeAdj.get(en.edge.u), en);
+        removeIdentity(nonTreeAdj.get(en.edge.v), en);
+    }
+
+    private static void removeIdentity(List<Entry> list, Entry en) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == en) {
+                list.set(i, list.get(list.size() - 1));
+                list.remove(list.size() - 1);
+                return;
+            }
+        }
+    }
+
+    private void linkTree(Entry en) {
+        int node = lct.addNode(en.w);
+        if (node >= owner.length)
+            owner = Arrays.copyOf(owner, Math.max(node + 1, owner.length * 2));
+        owner[node] = en;
+        en.node = node;
+        lct.link(en.edge.u, node);
+        lct.link(node, en.edge.v);
+        treeAdj.get(en.edge.u).add(en);
+        treeAdj.get(en.edge.v).add(en);
+        en.slot = treeOrder.size();
+        treeOrder.add(en);
+        totalCost += en.w;
+        treeSize++;
+    }
+
+    private void cutTree(Entry en) {
+        lct.cut(en.edge.u, en.node);
+        lct.cut(en.node, en.edge.v);
+        lct.removeNode(en.node);
+        removeIdentity(treeAdj.get(en.edge.u), en);
+        removeIdentity(treeAdj.get(en.edge.v), en);
+        owner[en.node] = null;
+        en.node = -1;
+        treeOrder.set(en.slot, null);
+        en.slot = -1;
+        totalCost -= en.w;
+        treeSize--;
+        if (++holes > treeOrder.size() / 2)
+            compactTreeOrder();
+    }
+
+    private void compactTreeOrder() {
+        int n = 0;
+        for (Entry en : treeOrder) {
+            if (en == null)
+                continue;
+            en.slot = n;
+            treeOrder.set(n++, en);
+        }
+        treeOrder.subList(n, treeOrder.size()).clear();
+        holes = 0;
+    }
+}
@@ -0,0 +1,128 @@
+package Algoritm;
+
+import java.util.*;
+
+public class IndexedMinHeap {
+    public static final int BINARY = 2;
+    public static final int QUATERNARY = 4;
+    public static final int OCTAL = 8;
+
+    private final int d;
+    private final int[] heap;
+    private final int[] pos;
+    private final double[] keys;
+    private int size = 0;
+
+    public IndexedMinHeap(int capacity, int arity) {
+        if (arity < 2)
+            throw new IllegalArgumentException("Heap arity must be at least 2: " + arity);
+        this.d = arity;
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return pos[id] >= 0;
+    }
+
+    public double key(int id) {
+        return keys[id];
+    }
+
+    public void insert(int id, double key) {
+        if (pos[id] >= 0)
+            throw new IllegalStateException("Id already in heap: " + id);
+        keys[id] = key;
+        heap[size] = id;
+        pos[id] = size;
+        siftUp(size++);
+    }
+
+    public void decreaseKey(int id, double key) {
+        if (key > keys[id])
+            throw new IllegalArgumentException("New key " + key + " is greater than current key " + keys[id]);
+        keys[id] = key;
+        siftUp(pos[id]);
+    }
+
+    public void insertOrDecrease(int id, double key) {
+        if (pos[id] >= 0) {
+            decreaseKey(id, key);
+        } else {
+            insert(id, key);
+        }
+    }
+
+    public int peekMin() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+        return heap[0];
+    }
+
+    public int extractMin() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+        int min = heap[0];
+        pos[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        double k = keys[id];
+        while (i > 0) {
+            int parent = (i - 1) / d;
+            int p = heap[parent];
+            if (keys[p] <= k)
+                break;
+            heap[i] = p;
+            pos[p] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        double k = keys[id];
+        while (true) {
+            int first = i * d + 1;
+            if (first >= size)
+                break;
+            int last = Math.min(first + d, size);
+            int best = first;
+            double bestKey = keys[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                double ck = keys[heap[c]];
+                if (ck < bestKey) {
+                    best = c;
+                    bestKey = ck;
+                }
+            }
+            if (k <= bestKey)
+                break;
+            heap[i] = heap[best];
+            pos[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+}
@@ -1,6 +1,8 @@
 package Algoritm;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 import Models.*;
 
 public class Kruskal {
@@ -18,58 +20,111 @@ public class Kruskal {
         }
     }
 
-    private static class UnionFind {
-        int[] parent;
-        int[] rank;
-        long finds = 0, unions = 0;
+    public static Result run(Graphs g) {
+        long startTime = System.nanoTime();
+
+        List<Edges> edges = new ArrayList<>(g.edges());
+        Collections.sort(edges);
+
+        int V = g.vertices();
+        UnionFind uf = UnionFind.sequential(V);
+        List<Edges> mst = new ArrayList<>();
+        long comparisons = 0;
 
-        UnionFind(int n) {
-            parent = new int[n];
-            rank = new int[n];
-            for (int i = 0; i < n; i++) {
-                parent[i] = i;
+        for (Edges e : edges) {
+            comparisons++;
+            if (uf.find(e.u) != uf.find(e.v)) {
+                if (uf.union(e.u, e.v)) {
+                    mst.add(e);
+                    if (mst.size() == V - 1)
+                        break;
+                }
             }
         }
 
-        int find(int x) {
-            finds++;
-            if (parent[x] != x) {
-                parent[x] = find(parent[x]);
+        double total = mst.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", comparisons);
+        ops.put("finds", uf.finds());
+        ops.put("unions", uf.unions());
+
+        return new Result(mst, total, timeMs, ops);
+    }
+
+    public static Result run(EdgeList g) {
+        long startTime = System.nanoTime();
+
+        int[] order;
+        long cacheHits = 0, cacheMisses = 0;
+        if (g instanceof CsrGraph csr) {
+            boolean[] computed = new boolean[1];
+            order = csr.sortedEdgeOrder(computed);
+            if (computed[0]) {
+                cacheMisses++;
+            } else {
+                cacheHits++;
             }
-            return parent[x];
+        } else {
+            int E = g.edgeCount();
+            double[] w = new double[E];
+            for (int i = 0; i < E; i++)
+                w[i] = g.edgeWeight(i);
+            order = EdgeOrder.sorted(w, false);
         }
 
-        boolean union(int a, int b) {
-            unions++;
-            int ra = find(a);
-            int rb = find(b);
-            if (ra == rb)
-                return false;
-
-            if (rank[ra] < rank[rb]) {
-                parent[ra] = rb;
-            } else if (rank[rb] < rank[ra]) {
-                parent[rb] = ra;
-            } else {
-                parent[rb] = ra;
-                rank[ra]++;
+        int V = g.vertices();
+        UnionFind uf = UnionFind.sequential(V);
+        List<Edges> mst = new ArrayList<>();
+        long comparisons = 0;
+
+        for (int id : order) {
+            int u = g.edgeU(id);
+            int v = g.edgeV(id);
+            comparisons++;
+            if (uf.find(u) != uf.find(v)) {
+                if (uf.union(u, v)) {
+                    mst.add(new Edges(u, v, g.edgeWeight(id)));
+                    if (mst.size() == V - 1)
+                        break;
+                }
             }
-            return true;
         }
+
+        double total = mst.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", comparisons);
+        ops.put("finds", uf.finds());
+        ops.put("unions", uf.unions());
+        if (g instanceof CsrGraph) {
+            ops.put("sortCacheHits", cacheHits);
+            ops.put("sortCacheMisses", cacheMisses);
+        }
+
+        return new Result(mst, total, timeMs, ops);
     }
 
-    public static Result run(Graphs g) {
+    public static Result runParallel(Graphs g) {
         long startTime = System.nanoTime();
 
-        List<Edges> edges = new ArrayList<>(g.edges());
-        Collections.sort(edges);
+        Edges[] edges = g.edges().toArray(new Edges[0]);
+        double[] w = new double[edges.length];
+        for (int i = 0; i < edges.length; i++)
+            w[i] = edges[i].w;
+        int[] order = EdgeOrder.sorted(w, true);
 
         int V = g.vertices();
-        UnionFind uf = new UnionFind(V);
+        UnionFind uf = UnionFind.sequential(V);
         List<Edges> mst = new ArrayList<>();
         long comparisons = 0;
 
-        for (Edges e : edges) {
+        for (int id : order) {
+            Edges e = edges[id];
             comparisons++;
             if (uf.find(e.u) != uf.find(e.v)) {
                 if (uf.union(e.u, e.v)) {
@@ -86,10 +141,166 @@ public class Kruskal {
 
         Map<String, Long> ops = new HashMap<>();
         ops.put("comparisons", comparisons);
-        ops.put("finds", uf.finds);
-        ops.put("unions", uf.unions);
+        ops.put("finds", uf.finds());
+        ops.put("unions", uf.unions());
+        ops.put("parallelism", (long) ForkJoinPool.getCommonPoolParallelism());
+
+        return new Result(mst, total, timeMs, ops);
+    }
+
+    public static Result runHeap(Graphs g) {
+        long startTime = System.nanoTime();
+
+        Edges[] edges = g.edges().toArray(new Edges[0]);
+        double[] w = new double[edges.length];
+        for (int i = 0; i < edges.length; i++)
+            w[i] = edges[i].w;
+        EdgeIndexHeap heap = EdgeIndexHeap.heapify(w);
+
+        int V = g.vertices();
+        UnionFind uf = UnionFind.sequential(V);
+        List<Edges> mst = new ArrayList<>();
+        long comparisons = 0;
+
+        while (!heap.isEmpty() && mst.size() < V - 1) {
+            Edges e = edges[heap.pop()];
+            comparisons++;
+            if (uf.find(e.u) != uf.find(e.v)) {
+                if (uf.union(e.u, e.v)) {
+                    mst.add(e);
+                }
+            }
+        }
+
+        double total = mst.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", comparisons);
+        ops.put("finds", uf.finds());
+        ops.put("unions", uf.unions());
+        ops.put("unextracted", (long) heap.size());
 
         return new Result(mst, total, timeMs, ops);
     }
 
+    private static final int FILTER_BASE_CASE = 64;
+
+    public static Result runFilter(Graphs g) {
+        long startTime = System.nanoTime();
+
+        FilterKruskal fk = new FilterKruskal(g);
+        int[] ids = new int[fk.edges.length];
+        for (int i = 0; i < ids.length; i++)
+            ids[i] = i;
+        fk.solve(ids, 0, ids.length);
+
+        double total = fk.mst.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", fk.comparisons);
+        ops.put("finds", fk.uf.finds());
+        ops.put("unions", fk.uf.unions());
+        ops.put("partitionComparisons", fk.partitionComparisons);
+        ops.put("sorted", fk.sorted);
+        ops.put("filtered", fk.filtered);
+
+        return new Result(fk.mst, total, timeMs, ops);
+    }
+
+    private static class FilterKruskal {
+        final Edges[] edges;
+        final double[] w;
+        final int[] tmp;
+        final int V;
+        final UnionFind uf;
+        final List<Edges> mst = new ArrayList<>();
+        long comparisons = 0, partitionComparisons = 0, sorted = 0, filtered = 0;
+
+        FilterKruskal(Graphs g) {
+            edges = g.edges().toArray(new Edges[0]);
+            w = new double[edges.length];
+            for (int i = 0; i < edges.length; i++)
+                w[i] = edges[i].w;
+            tmp = new int[edges.length];
+            V = g.vertices();
+            uf = UnionFind.sequential(V);
+        }
+
+        boolean done() {
+            return mst.size() >= V - 1;
+        }
+
+        void solve(int[] ids, int lo, int hi) {
+            while (hi > lo && !done()) {
+                if (hi - lo <= FILTER_BASE_CASE) {
+                    EdgeOrder.mergeSort(ids, tmp, lo, hi, w);
+                    sorted += hi - lo;
+                    for (int i = lo; i < hi && !done(); i++)
+                        scan(ids[i]);
+                    return;
+                }
+
+                int p = choosePivot(ids, lo, hi);
+                int pivot = ids[p];
+                ids[p] = ids[hi - 1];
+                ids[hi - 1] = pivot;
+                int split = lo;
+                for (int i = lo; i < hi - 1; i++) {
+                    partitionComparisons++;
+                    if (EdgeOrder.before(ids[i], pivot, w)) {
+                        int t = ids[i];
+                        ids[i] = ids[split];
+                        ids[split++] = t;
+                    }
+                }
+                ids[hi - 1] = ids[split];
+                ids[split] = pivot;
+
+                solve(ids, lo, split);
+                if (done())
+                    return;
+                scan(pivot);
+                if (done())
+                    return;
+                split++;
+
+                int kept = split;
+                for (int i = split; i < hi; i++) {
+                    Edges e = edges[ids[i]];
+                    if (uf.find(e.u) != uf.find(e.v)) {
+                        ids[kept++] = ids[i];
+                    } else {
+                        filtered++;
+                    }
+                }
+                lo = split;
+                hi = kept;
+            }
+        }
+
+        void scan(int id) {
+            Edges e = edges[id];
+            comparisons++;
+            if (uf.find(e.u) != uf.find(e.v)) {
+                if (uf.union(e.u, e.v))
+                    mst.add(e);
+            }
+        }
+
+        int choosePivot(int[] ids, int lo, int hi) {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            int a = rnd.nextInt(lo, hi);
+            int b = rnd.nextInt(lo, hi);
+            int c = rnd.nextInt(lo, hi);
+            partitionComparisons += 3;
+            if (EdgeOrder.before(ids[a], ids[b], w)) {
+                return EdgeOrder.before(ids[b], ids[c], w) ? b : (EdgeOrder.before(ids[a], ids[c], w) ? c : a);
+            }
+            return EdgeOrder.before(ids[a], ids[c], w) ? a : (EdgeOrder.before(ids[b], ids[c], w) ? c : b);
+        }
+    }
 }
@@ -0,0 +1,217 @@
+package Algoritm;
+
+import java.util.*;
+
+public class LinkCutTree {
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private boolean[] flip;
+    private double[] value;
+    private int[] max;
+    private int size = 0;
+    private int[] free = new int[16];
+    private int freeCount = 0;
+    private int[] stack = new int[64];
+
+    private long rotations = 0;
+
+    public LinkCutTree(int capacity) {
+        int n = Math.max(capacity, 1);
+        left = new int[n];
+        right = new int[n];
+        parent = new int[n];
+        flip = new boolean[n];
+        value = new double[n];
+        max = new int[n];
+    }
+
+    public int addNode(double v) {
+        int x;
+        if (freeCount > 0) {
+            x = free[--freeCount];
+        } else {
+            if (size == left.length)
+                grow(size * 2);
+            x = size++;
+        }
+        left[x] = right[x] = parent[x] = -1;
+        flip[x] = false;
+        value[x] = v;
+        max[x] = x;
+        return x;
+    }
+
+    // The node must already be cut from every neighbour.
+    public void removeNode(int x) {
+        if (freeCount == free.length)
+            free = Arrays.copyOf(free, freeCount * 2);
+        free[freeCount++] = x;
+    }
+
+    public double value(int x) {
+        return value[x];
+    }
+
+    public void setValue(int x, double v) {
+        access(x);
+        value[x] = v;
+        pull(x);
+    }
+
+    public void link(int x, int y) {
+        makeRoot(x);
+        if (findRoot(y) == x)
+            throw new IllegalStateException("Nodes " + x + " and " + y + " are already connected");
+        parent[x] = y;
+    }
+
+    public void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        if (left[y] != x || right[x] != -1)
+            throw new IllegalStateException("Nodes " + x + " and " + y + " are not adjacent");
+        left[y] = -1;
+        parent[x] = -1;
+        pull(y);
+    }
+
+    public boolean connected(int x, int y) {
+        return x == y || findRoot(x) == findRoot(y);
+    }
+
+    // Node with the largest value on the path between two connected nodes.
+    public int pathMax(int x, int y) {
+        makeRoot(x);
+        access(y);
+        return max[y];
+    }
+
+    public long rotations() {
+        return rotations;
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flip[x] ^= true;
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        int r = x;
+        push(r);
+        while (left[r] != -1) {
+            r = left[r];
+            push(r);
+        }
+        splay(r);
+        return r;
+    }
+
+    // Makes the root-to-x path preferred and leaves x at the root of its splay tree with no right child.
+    private void access(int x) {
+        int last = -1;
+        for (int y = x; y != -1; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private boolean isRoot(int x) {
+        int p = parent[x];
+        return p == -1 || (left[p] != x && right[p] != x);
+    }
+
+    private void pull(int x) {
+        int m = x;
+        int l = left[x], r = right[x];
+        if (l != -1 && value[max[l]] > value[m])
+            m = max[l];
+        if (r != -1 && value[max[r]] > value[m])
+            m = max[r];
+        max[x] = m;
+    }
+
+    private void push(int x) {
+        if (!flip[x])
+            return;
+        int l = left[x];
+        left[x] = right[x];
+        right[x] = l;
+        if (left[x] != -1)
+            flip[left[x]] ^= true;
+        if (right[x] != -1)
+            flip[right[x]] ^= true;
+        flip[x] = false;
+    }
+
+    private void rotate(int x) {
+        int y = parent[x];
+        int z = parent[y];
+        if (!isRoot(y)) {
+            if (left[z] == y) {
+                left[z] = x;
+            } else {
+                right[z] = x;
+            }
+        }
+        parent[x] = z;
+        if (left[y] == x) {
+            left[y] = right[x];
+            if (right[x] != -1)
+                parent[right[x]] = y;
+            right[x] = y;
+        } else {
+            right[y] = left[x];
+            if (left[x] != -1)
+                parent[left[x]] = y;
+            left[x] = y;
+        }
+        parent[y] = x;
+        pull(y);
+        pull(x);
+        rotations++;
+    }
+
+    private void splay(int x) {
+        pushDownTo(x);
+        while (!isRoot(x)) {
+            int y = parent[x];
+            if (!isRoot(y)) {
+                int z = parent[y];
+                if ((left[y] == x) == (left[z] == y)) {
+                    rotate(y);
+                } else {
+                    rotate(x);
+                }
+            }
+            rotate(x);
+        }
+    }
+
+    // Pending flips must be applied from the splay root down before rotating x upwards.
+    private void pushDownTo(int x) {
+        int depth = 0;
+        for (int y = x; ; y = parent[y]) {
+            if (depth == stack.length)
+                stack = Arrays.copyOf(stack, depth * 2);
+            stack[depth++] = y;
+            if (isRoot(y))
+                break;
+        }
+        while (depth > 0)
+            push(stack[--depth]);
+    }
+
+    private void grow(int capacity) {
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        flip = Arrays.copyOf(flip, capacity);
+        value = Arrays.copyOf(value, capacity);
+        max = Arrays.copyOf(max, capacity);
+    }
+}
@@ -0,0 +1,65 @@
+package Algoritm;
+
+import java.util.*;
+
+// Open addressing without resizing: the map must be created for at least as many keys as it will hold.
+class LongIntHashMap {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size = 0;
+    private long probes = 0;
+
+    LongIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long probes() {
+        return probes;
+    }
+
+    // Slot holding the key, or the empty slot where it would be inserted.
+    int slot(long key) {
+        int i = mix(key) & mask;
+        while (keys[i] != EMPTY && keys[i] != key) {
+            probes++;
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    boolean occupied(int slot) {
+        return keys[slot] != EMPTY;
+    }
+
+    int valueAt(int slot) {
+        return values[slot];
+    }
+
+    void setAt(int slot, long key, int value) {
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
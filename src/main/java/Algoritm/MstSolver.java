@@ -0,0 +1,144 @@
+package Algoritm;
+
+import java.util.*;
+import Models.*;
+
+public class MstSolver {
+    public enum Engine {
+        PRIM, PRIM_LAZY, PRIM_DENSE, KRUSKAL, KRUSKAL_PARALLEL, KRUSKAL_FILTER, KRUSKAL_HEAP, BORUVKA
+    }
+
+    public static class Thresholds {
+        public double denseDensity = 0.5;
+        public int maxDenseVertices = 8192;
+        public double filterDensity = 0.05;
+        public double lazyPrimMaxAvgDegree = 4.0;
+        public int parallelEdges = 1 << 20;
+        public int minParallelCores = 4;
+    }
+
+    public static class Result {
+        public Engine engine;
+        public List<Edges> mst;
+        public double totalCost;
+        public long timeMs;
+        public Map<String, Long> ops;
+        public double density;
+        public boolean integerWeights;
+
+        public Result(Engine engine, List<Edges> mst, double totalCost, long timeMs, Map<String, Long> ops,
+                      double density, boolean integerWeights) {
+            this.engine = engine;
+            this.mst = mst;
+            this.totalCost = totalCost;
+            this.timeMs = timeMs;
+            this.ops = ops;
+            this.density = density;
+            this.integerWeights = integerWeights;
+        }
+    }
+
+    public static Result solve(Graphs g) {
+        return solve(g, new Thresholds());
+    }
+
+    public static Result solve(Graphs g, Thresholds t) {
+        long startTime = System.nanoTime();
+        double density = density(g);
+        boolean integerWeights = hasIntegerWeights(g);
+        Engine engine = choose(g.vertices(), g.edgeCount(), density, integerWeights, t);
+
+        Result r = run(engine, g, density, integerWeights);
+        if (r.mst.size() < g.vertices() - 1 && isPrim(engine)) {
+            // Prim only spans the start vertex's component; fall back to an engine that returns the whole forest.
+            Map<String, Long> primOps = r.ops;
+            engine = Engine.KRUSKAL;
+            r = run(engine, g, density, integerWeights);
+            r.ops.put("fallbacks", 1L);
+            r.ops.put("fallbackExtracts", primOps.getOrDefault("extracts", 0L));
+        }
+
+        long timeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return new Result(engine, r.mst, r.totalCost, timeMs, r.ops, density, integerWeights);
+    }
+
+    public static Engine choose(Graphs g, Thresholds t) {
+        return choose(g.vertices(), g.edgeCount(), density(g), hasIntegerWeights(g), t);
+    }
+
+    public static Engine choose(int V, int E, double density, boolean integerWeights, Thresholds t) {
+        if (V <= 1 || E < V - 1)
+            return Engine.KRUSKAL;
+        if (density >= t.denseDensity && V <= t.maxDenseVertices)
+            return Engine.PRIM_DENSE;
+        if (E >= t.parallelEdges && Runtime.getRuntime().availableProcessors() >= t.minParallelCores) {
+            // Integer weights pack into exact sort keys, so the parallel sort never needs its fix-up pass.
+            return integerWeights ? Engine.KRUSKAL_PARALLEL : Engine.BORUVKA;
+        }
+        if (density >= t.filterDensity)
+            return Engine.KRUSKAL_FILTER;
+        if ((double) 2 * E / V <= t.lazyPrimMaxAvgDegree)
+            return Engine.PRIM_LAZY;
+        return Engine.KRUSKAL;
+    }
+
+    public static Result run(Engine engine, Graphs g) {
+        return run(engine, g, density(g), hasIntegerWeights(g));
+    }
+
+    private static Result run(Engine engine, Graphs g, double density, boolean integerWeights) {
+        switch (engine) {
+            case PRIM: {
+                Prim.Result r = Prim.run(g, 0);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+            case PRIM_LAZY: {
+                Prim.Result r = Prim.runLazy(g, 0);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+            case PRIM_DENSE: {
+                Prim.Result r = Prim.runDense(g, 0);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+            case KRUSKAL_PARALLEL: {
+                Kruskal.Result r = Kruskal.runParallel(g);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+            case KRUSKAL_FILTER: {
+                Kruskal.Result r = Kruskal.runFilter(g);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+            case KRUSKAL_HEAP: {
+                Kruskal.Result r = Kruskal.runHeap(g);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+            case BORUVKA: {
+                Boruvka.Result r = Boruvka.run(g);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+            default: {
+                Kruskal.Result r = Kruskal.run(g);
+                return new Result(engine, r.mst, r.totalCost, r.timeMs, r.ops, density, integerWeights);
+            }
+        }
+    }
+
+    public static double density(Graphs g) {
+        long V = g.vertices();
+        if (V < 2)
+            return 0.0;
+        return (double) g.edgeCount() / (V * (V - 1) / 2);
+    }
+
+    public static boolean hasIntegerWeights(Graphs g) {
+        for (Edges e : g.edges()) {
+            if (e.w != Math.rint(e.w) || Math.abs(e.w) > (1 << 24))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isPrim(Engine engine) {
+        return engine == Engine.PRIM || engine == Engine.PRIM_LAZY || engine == Engine.PRIM_DENSE;
+    }
+}
@@ -0,0 +1,218 @@
+package Algoritm;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import Models.*;
+
+public class MultiEdgeFilter {
+    public static class Result {
+        public Graphs graph;
+        public int[] kept;
+        public long selfLoops;
+        public long parallelEdges;
+        public long timeMs;
+        public Map<String, Long> ops;
+
+        public Result(Graphs graph, int[] kept, long selfLoops, long parallelEdges, long timeMs, Map<String, Long> ops) {
+            this.graph = graph;
+            this.kept = kept;
+            this.selfLoops = selfLoops;
+            this.parallelEdges = parallelEdges;
+            this.timeMs = timeMs;
+            this.ops = ops;
+        }
+
+        public long removed() {
+            return selfLoops + parallelEdges;
+        }
+    }
+
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+    private static final long SELF_LOOP = -1L;
+
+    public static Result run(Graphs g) {
+        return run(g, ForkJoinPool.commonPool());
+    }
+
+    public static Result run(Graphs g, ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+        List<Edges> list = g.edges();
+        int E = list.size();
+        Pass pass = keep(g, pool);
+
+        Graphs out = new Graphs(g.vertices(), pass.kept.length);
+        for (int id : pass.kept)
+            out.addEdge(list.get(id));
+        long timeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return pass.result(out, E, timeMs);
+    }
+
+    public static Result run(EdgeList g) {
+        return run(g, ForkJoinPool.commonPool());
+    }
+
+    // Index-only variant for column graphs: Result.graph is null and Result.kept lists the surviving edge ids.
+    public static Result run(EdgeList g, ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+        Pass pass = keep(g, pool);
+        long timeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return pass.result(null, g.edgeCount(), timeMs);
+    }
+
+    private static class Pass {
+        int[] kept;
+        long selfLoops;
+        long shards;
+        long probes;
+
+        Result result(Graphs out, int E, long timeMs) {
+            long parallelEdges = E - selfLoops - kept.length;
+            Map<String, Long> ops = new HashMap<>();
+            ops.put("selfLoops", selfLoops);
+            ops.put("parallelEdges", parallelEdges);
+            ops.put("removed", selfLoops + parallelEdges);
+            ops.put("shards", shards);
+            ops.put("probes", probes);
+            return new Result(out, kept, selfLoops, parallelEdges, timeMs, ops);
+        }
+    }
+
+    private static Pass keep(EdgeList g, ForkJoinPool pool) {
+        int E = g.edgeCount();
+        long[] keys = new long[E];
+        double[] w = new double[E];
+        long selfLoops = pool.invoke(new KeyTask(g, keys, w, 0, E));
+
+        int shardBits = Math.max(0, 32 - Integer.numberOfLeadingZeros(pool.getParallelism() * 4 - 1));
+        int shards = 1 << shardBits;
+
+        // Counting sort of edge ids by shard; the shard comes from the high hash bits, the tables use the low ones.
+        int[] shardStart = new int[shards + 1];
+        for (int i = 0; i < E; i++) {
+            if (keys[i] != SELF_LOOP)
+                shardStart[shard(keys[i], shardBits) + 1]++;
+        }
+        for (int s = 0; s < shards; s++)
+            shardStart[s + 1] += shardStart[s];
+        int[] byShard = new int[shardStart[shards]];
+        int[] fill = Arrays.copyOf(shardStart, shards);
+        for (int i = 0; i < E; i++) {
+            if (keys[i] != SELF_LOOP)
+                byShard[fill[shard(keys[i], shardBits)]++] = i;
+        }
+
+        boolean[] keep = new boolean[E];
+        long probes = pool.invoke(new ShardTask(keys, w, byShard, shardStart, keep, 0, shards));
+
+        int count = 0;
+        for (int i = 0; i < E; i++) {
+            if (keep[i])
+                count++;
+        }
+        int[] kept = new int[count];
+        count = 0;
+        for (int i = 0; i < E; i++) {
+            if (keep[i])
+                kept[count++] = i;
+        }
+
+        Pass pass = new Pass();
+        pass.kept = kept;
+        pass.selfLoops = selfLoops;
+        pass.shards = shards;
+        pass.probes = probes;
+        return pass;
+    }
+
+    private static int shard(long key, int shardBits) {
+        return shardBits == 0 ? 0 : LongIntHashMap.mix(key) >>> (32 - shardBits);
+    }
+
+    private static class KeyTask extends RecursiveTask<Long> {
+        final EdgeList g;
+        final long[] keys;
+        final double[] w;
+        final int lo, hi;
+
+        KeyTask(EdgeList g, long[] keys, double[] w, int lo, int hi) {
+            this.g = g;
+            this.keys = keys;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Long compute() {
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                KeyTask left = new KeyTask(g, keys, w, lo, mid);
+                left.fork();
+                long right = new KeyTask(g, keys, w, mid, hi).compute();
+                return left.join() + right;
+            }
+            long selfLoops = 0;
+            for (int i = lo; i < hi; i++) {
+                int u = g.edgeU(i);
+                int v = g.edgeV(i);
+                w[i] = g.edgeWeight(i);
+                if (u == v) {
+                    keys[i] = SELF_LOOP;
+                    selfLoops++;
+                } else {
+                    keys[i] = ((long) Math.min(u, v) << 32) | Math.max(u, v);
+                }
+            }
+            return selfLoops;
+        }
+    }
+
+    // Every edge belongs to exactly one shard, so the shards write disjoint entries of keep.
+    private static class ShardTask extends RecursiveTask<Long> {
+        final long[] keys;
+        final double[] w;
+        final int[] byShard, shardStart;
+        final boolean[] keep;
+        final int lo, hi;
+
+        ShardTask(long[] keys, double[] w, int[] byShard, int[] shardStart, boolean[] keep, int lo, int hi) {
+            this.keys = keys;
+            this.w = w;
+            this.byShard = byShard;
+            this.shardStart = shardStart;
+            this.keep = keep;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Long compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                ShardTask left = new ShardTask(keys, w, byShard, shardStart, keep, lo, mid);
+                left.fork();
+                long right = new ShardTask(keys, w, byShard, shardStart, keep, mid, hi).compute();
+                return left.join() + right;
+            }
+            long probes = 0;
+            for (int s = lo; s < hi; s++) {
+                int from = shardStart[s];
+                int to = shardStart[s + 1];
+                LongIntHashMap lightest = new LongIntHashMap(to - from);
+                for (int i = from; i < to; i++) {
+                    int id = byShard[i];
+                    int slot = lightest.slot(keys[id]);
+                    if (!lightest.occupied(slot) || EdgeOrder.before(id, lightest.valueAt(slot), w))
+                        lightest.setAt(slot, keys[id], id);
+                }
+                for (int slot = 0; slot < lightest.capacity(); slot++) {
+                    if (lightest.occupied(slot))
+                        keep[lightest.valueAt(slot)] = true;
+                }
+                probes += lightest.probes();
+            }
+            return probes;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package Algoritm;
 
 import java.util.*;
+import java.util.function.IntFunction;
 import Models.*;
 
 public class Prim {
@@ -18,29 +19,28 @@ public class Prim {
         }
     }
 
+    public static final int DEFAULT_ARITY = IndexedMinHeap.QUATERNARY;
+
     public static Result run(Graphs g, int start) {
+        return run(g, start, DEFAULT_ARITY);
+    }
+
+    public static Result run(Graphs g, int start, int arity) {
         long startTime = System.nanoTime();
         int V = g.vertices();
         boolean[] inMST = new boolean[V];
-        double[] key = new double[V];
         Edges[] parentEdge = new Edges[V];
-        Arrays.fill(key, Double.POSITIVE_INFINITY);
-        key[start] = 0.0;
 
-        PriorityQueue<Integer> pq = new PriorityQueue<>(Comparator.comparingDouble(v -> key[v]));
-        for (int i = 0; i < V; i++)
-            pq.add(i);
+        IndexedMinHeap pq = new IndexedMinHeap(V, arity);
+        pq.insert(start, 0.0);
 
         List<Edges> mstEdges = new ArrayList<>();
         long comparisons = 0, extracts = 0, decreaseKeys = 0;
 
         while (!pq.isEmpty()) {
-            int u = pq.poll();
+            int u = pq.extractMin();
             extracts++;
 
-            if (key[u] == Double.POSITIVE_INFINITY)
-                break;
-
             inMST[u] = true;
             if (parentEdge[u] != null) {
                 mstEdges.add(parentEdge[u]);
@@ -49,11 +49,9 @@ public class Prim {
             for (Edges e : g.adj(u)) {
                 int v = e.other(u);
                 comparisons++;
-                if (!inMST[v] && e.w < key[v]) {
-                    key[v] = e.w;
+                if (!inMST[v] && (!pq.contains(v) || e.w < pq.key(v))) {
+                    pq.insertOrDecrease(v, e.w);
                     parentEdge[v] = e;
-                    pq.remove(v);
-                    pq.add(v);
                     decreaseKeys++;
                 }
             }
@@ -70,4 +68,199 @@ public class Prim {
 
         return new Result(mstEdges, total, timeMs, ops);
     }
+
+    public static Result runDense(Graphs g, int start) {
+        long startTime = System.nanoTime();
+        int V = g.vertices();
+        if ((long) V * V > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Graph with " + V + " vertices is too large for a dense matrix");
+
+        double[] matrix = new double[V * V];
+        Arrays.fill(matrix, Double.POSITIVE_INFINITY);
+        for (Edges e : g.edges()) {
+            if (e.u != e.v && e.w < matrix[e.u * V + e.v]) {
+                matrix[e.u * V + e.v] = e.w;
+                matrix[e.v * V + e.u] = e.w;
+            }
+        }
+
+        boolean[] inMST = new boolean[V];
+        double[] key = new double[V];
+        int[] parent = new int[V];
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        Arrays.fill(parent, -1);
+        key[start] = 0.0;
+
+        List<Edges> mstEdges = new ArrayList<>();
+        long comparisons = 0, extracts = 0, decreaseKeys = 0;
+
+        for (int iter = 0; iter < V; iter++) {
+            int u = -1;
+            double best = Double.POSITIVE_INFINITY;
+            for (int v = 0; v < V; v++) {
+                if (!inMST[v] && key[v] < best) {
+                    best = key[v];
+                    u = v;
+                }
+            }
+            if (u < 0)
+                break;
+            extracts++;
+
+            inMST[u] = true;
+            if (parent[u] >= 0) {
+                mstEdges.add(findEdge(g, parent[u], u, key[u]));
+            }
+
+            int row = u * V;
+            for (int v = 0; v < V; v++) {
+                double w = matrix[row + v];
+                comparisons++;
+                if (!inMST[v] && w < key[v]) {
+                    key[v] = w;
+                    parent[v] = u;
+                    decreaseKeys++;
+                }
+            }
+        }
+
+        double total = mstEdges.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", comparisons);
+        ops.put("extracts", extracts);
+        ops.put("decreaseKeys", decreaseKeys);
+
+        return new Result(mstEdges, total, timeMs, ops);
+    }
+
+    private static Edges findEdge(Graphs g, int from, int to, double w) {
+        for (Edges e : g.adj(to)) {
+            if (e.other(to) == from && e.w == w)
+                return e;
+        }
+        throw new IllegalStateException("No edge " + from + "-" + to + " with weight " + w);
+    }
+
+    public static Result run(IndexedGraph g, int start) {
+        return run(g, start, DEFAULT_ARITY);
+    }
+
+    public static Result run(IndexedGraph g, int start, int arity) {
+        long startTime = System.nanoTime();
+        int V = g.vertices();
+        boolean[] inMST = new boolean[V];
+        int[] parentEdge = new int[V];
+        Arrays.fill(parentEdge, -1);
+
+        IndexedMinHeap pq = new IndexedMinHeap(V, arity);
+        pq.insert(start, 0.0);
+
+        List<Edges> mstEdges = new ArrayList<>();
+        long comparisons = 0, extracts = 0, decreaseKeys = 0;
+
+        while (!pq.isEmpty()) {
+            int u = pq.extractMin();
+            extracts++;
+
+            inMST[u] = true;
+            if (parentEdge[u] >= 0) {
+                int id = parentEdge[u];
+                mstEdges.add(new Edges(g.edgeU(id), g.edgeV(id), g.edgeWeight(id)));
+            }
+
+            for (int i = g.adjStart(u), end = g.adjEnd(u); i < end; i++) {
+                int v = g.adjNeighbor(i);
+                double w = g.adjWeight(i);
+                comparisons++;
+                if (!inMST[v] && (!pq.contains(v) || w < pq.key(v))) {
+                    pq.insertOrDecrease(v, w);
+                    parentEdge[v] = g.adjEdge(i);
+                    decreaseKeys++;
+                }
+            }
+        }
+
+        double total = mstEdges.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", comparisons);
+        ops.put("extracts", extracts);
+        ops.put("decreaseKeys", decreaseKeys);
+
+        return new Result(mstEdges, total, timeMs, ops);
+    }
+
+    public static Result runLazy(Graphs g, int start) {
+        long startTime = System.nanoTime();
+        List<Edges> edges = g.edges();
+        Result r = runLazy(CsrGraph.from(g), start, edges::get);
+        r.timeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return r;
+    }
+
+    public static Result runLazy(IndexedGraph g, int start) {
+        return runLazy(g, start, id -> new Edges(g.edgeU(id), g.edgeV(id), g.edgeWeight(id)));
+    }
+
+    private static Result runLazy(IndexedGraph g, int start, IntFunction<Edges> edgeOf) {
+        long startTime = System.nanoTime();
+        int V = g.vertices();
+
+        boolean[] inMST = new boolean[V];
+        EdgeIndexHeap pq = new EdgeIndexHeap(Math.max(V, 16));
+        List<Edges> mstEdges = new ArrayList<>();
+        long comparisons = 0, extracts = 0, pushes = 0, staleSkips = 0;
+
+        inMST[start] = true;
+        for (int i = g.adjStart(start), end = g.adjEnd(start); i < end; i++) {
+            comparisons++;
+            if (!inMST[g.adjNeighbor(i)]) {
+                pq.push(g.adjWeight(i), g.adjEdge(i));
+                pushes++;
+            }
+        }
+
+        while (!pq.isEmpty() && mstEdges.size() < V - 1) {
+            int best = pq.pop();
+            extracts++;
+
+            int u;
+            if (!inMST[g.edgeU(best)]) {
+                u = g.edgeU(best);
+            } else if (!inMST[g.edgeV(best)]) {
+                u = g.edgeV(best);
+            } else {
+                staleSkips++;
+                continue;
+            }
+
+            inMST[u] = true;
+            mstEdges.add(edgeOf.apply(best));
+
+            for (int i = g.adjStart(u), end = g.adjEnd(u); i < end; i++) {
+                comparisons++;
+                if (!inMST[g.adjNeighbor(i)]) {
+                    pq.push(g.adjWeight(i), g.adjEdge(i));
+                    pushes++;
+                }
+            }
+        }
+
+        double total = mstEdges.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        Map<String, Long> ops = new HashMap<>();
+        ops.put("comparisons", comparisons);
+        ops.put("extracts", extracts);
+        ops.put("pushes", pushes);
+        ops.put("staleSkips", staleSkips);
+
+        return new Result(mstEdges, total, timeMs, ops);
+    }
 }
@@ -0,0 +1,58 @@
+package Algoritm;
+
+public class SequentialUnionFind implements UnionFind {
+    private final int[] parent;
+    private final byte[] rank;
+    private long finds = 0, unions = 0;
+
+    public SequentialUnionFind(int n) {
+        parent = new int[n];
+        rank = new byte[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+    }
+
+    public int size() {
+        return parent.length;
+    }
+
+    public int find(int x) {
+        finds++;
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    public boolean union(int a, int b) {
+        unions++;
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb)
+            return false;
+
+        if (rank[ra] < rank[rb]) {
+            parent[ra] = rb;
+        } else if (rank[rb] < rank[ra]) {
+            parent[rb] = ra;
+        } else {
+            parent[rb] = ra;
+            rank[ra]++;
+        }
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    public long finds() {
+        return finds;
+    }
+
+    public long unions() {
+        return unions;
+    }
+}
@@ -0,0 +1,202 @@
+package Algoritm;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import Models.*;
+
+public class SpanningForest {
+    public static class Result {
+        public List<Edges> mst;
+        public double totalCost;
+        public long timeMs;
+        public Map<String, Long> ops;
+        public int components;
+
+        public Result(List<Edges> mst, double totalCost, long timeMs, Map<String, Long> ops, int components) {
+            this.mst = mst;
+            this.totalCost = totalCost;
+            this.timeMs = timeMs;
+            this.ops = ops;
+            this.components = components;
+        }
+    }
+
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
+    public static Result run(Graphs g) {
+        return run(g, ForkJoinPool.commonPool());
+    }
+
+    public static Result run(Graphs g, ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+        int V = g.vertices();
+        Edges[] edges = g.edges().toArray(new Edges[0]);
+
+        UnionFind uf = UnionFind.concurrent(V);
+        pool.invoke(new UnionTask(edges, uf, 0, edges.length));
+
+        int[] root = new int[V];
+        pool.invoke(new RootTask(root, uf, 0, V));
+
+        // Number components densely in vertex order and give every vertex its index inside its component.
+        int[] compOfRoot = new int[V];
+        Arrays.fill(compOfRoot, -1);
+        int[] local = new int[V];
+        int[] compSize = new int[V];
+        int components = 0;
+        for (int v = 0; v < V; v++) {
+            int r = root[v];
+            if (compOfRoot[r] < 0)
+                compOfRoot[r] = components++;
+            int c = compOfRoot[r];
+            local[v] = compSize[c]++;
+        }
+
+        int[] compVertexStart = new int[components + 1];
+        for (int c = 0; c < components; c++)
+            compVertexStart[c + 1] = compVertexStart[c] + compSize[c];
+        int[] compEdgeStart = new int[components + 1];
+        for (Edges e : edges)
+            compEdgeStart[compOfRoot[root[e.u]] + 1]++;
+        for (int c = 0; c < components; c++)
+            compEdgeStart[c + 1] += compEdgeStart[c];
+        int[] compEdges = new int[edges.length];
+        int[] fill = Arrays.copyOf(compEdgeStart, components);
+        for (int i = 0; i < edges.length; i++)
+            compEdges[fill[compOfRoot[root[edges[i].u]]]++] = i;
+
+        MstSolver.Result[] results = new MstSolver.Result[components];
+        Edges[][] trees = new Edges[components][];
+        pool.invoke(new SolveTask(edges, compVertexStart, compEdgeStart, compEdges, local, results, trees,
+                0, components));
+
+        List<Edges> forest = new ArrayList<>();
+        Map<String, Long> ops = new HashMap<>();
+        long treeCount = 0;
+        for (int c = 0; c < components; c++) {
+            if (results[c] == null)
+                continue;
+            treeCount++;
+            forest.addAll(Arrays.asList(trees[c]));
+            for (Map.Entry<String, Long> entry : results[c].ops.entrySet())
+                ops.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        ops.put("components", (long) components);
+        ops.put("trees", treeCount);
+        ops.put("componentFinds", uf.finds());
+        ops.put("componentUnions", uf.unions());
+
+        double total = forest.stream().mapToDouble(x -> x.w).sum();
+        long endTime = System.nanoTime();
+        long timeMs = (endTime - startTime) / 1_000_000;
+
+        return new Result(forest, total, timeMs, ops, components);
+    }
+
+    private static class UnionTask extends RecursiveAction {
+        final Edges[] edges;
+        final UnionFind uf;
+        final int lo, hi;
+
+        UnionTask(Edges[] edges, UnionFind uf, int lo, int hi) {
+            this.edges = edges;
+            this.uf = uf;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new UnionTask(edges, uf, lo, mid), new UnionTask(edges, uf, mid, hi));
+                return;
+            }
+            for (int i = lo; i < hi; i++)
+                uf.union(edges[i].u, edges[i].v);
+        }
+    }
+
+    private static class RootTask extends RecursiveAction {
+        final int[] root;
+        final UnionFind uf;
+        final int lo, hi;
+
+        RootTask(int[] root, UnionFind uf, int lo, int hi) {
+            this.root = root;
+            this.uf = uf;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new RootTask(root, uf, lo, mid), new RootTask(root, uf, mid, hi));
+                return;
+            }
+            for (int v = lo; v < hi; v++)
+                root[v] = uf.find(v);
+        }
+    }
+
+    private static class SolveTask extends RecursiveAction {
+        final Edges[] edges;
+        final int[] compVertexStart, compEdgeStart, compEdges, local;
+        final MstSolver.Result[] results;
+        final Edges[][] trees;
+        final int lo, hi;
+
+        SolveTask(Edges[] edges, int[] compVertexStart, int[] compEdgeStart, int[] compEdges, int[] local,
+                  MstSolver.Result[] results, Edges[][] trees, int lo, int hi) {
+            this.edges = edges;
+            this.compVertexStart = compVertexStart;
+            this.compEdgeStart = compEdgeStart;
+            this.compEdges = compEdges;
+            this.local = local;
+            this.results = results;
+            this.trees = trees;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            // Split by edge volume so one giant component is not bundled with many small ones.
+            if (hi - lo > 1 && compEdgeStart[hi] - compEdgeStart[lo] > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new SolveTask(edges, compVertexStart, compEdgeStart, compEdges, local, results, trees, lo, mid),
+                        new SolveTask(edges, compVertexStart, compEdgeStart, compEdges, local, results, trees, mid, hi));
+                return;
+            }
+            for (int c = lo; c < hi; c++)
+                solve(c);
+        }
+
+        private void solve(int c) {
+            int size = compVertexStart[c + 1] - compVertexStart[c];
+            int from = compEdgeStart[c];
+            int to = compEdgeStart[c + 1];
+            if (size < 2 || from == to)
+                return;
+
+            Graphs sub = new Graphs(size);
+            Map<Edges, Edges> original = new IdentityHashMap<>(to - from);
+            for (int i = from; i < to; i++) {
+                Edges e = edges[compEdges[i]];
+                Edges copy = new Edges(local[e.u], local[e.v], e.w);
+                sub.addEdge(copy);
+                original.put(copy, e);
+            }
+
+            MstSolver.Result r = MstSolver.solve(sub);
+            Edges[] tree = new Edges[r.mst.size()];
+            for (int i = 0; i < tree.length; i++)
+                tree[i] = original.get(r.mst.get(i));
+            results[c] = r;
+            trees[c] = tree;
+        }
+    }
+}
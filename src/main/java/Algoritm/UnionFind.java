@@ -0,0 +1,23 @@
+package Algoritm;
+
+public interface UnionFind {
+    int size();
+
+    int find(int x);
+
+    boolean union(int a, int b);
+
+    boolean connected(int a, int b);
+
+    long finds();
+
+    long unions();
+
+    static UnionFind sequential(int n) {
+        return new SequentialUnionFind(n);
+    }
+
+    static UnionFind concurrent(int n) {
+        return new ConcurrentUnionFind(n);
+    }
+}
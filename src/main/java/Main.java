@@ -1,90 +1,191 @@
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 import Algoritm.*;
 import Models.*;
 import Util.*;
 
 public class Main {
     public static void main(String[] args) {
+        boolean auto = Arrays.asList(args).contains("--auto");
+        boolean parallelLoad = Arrays.asList(args).contains("--parallel-load");
+        boolean jsonLines = Arrays.asList(args).contains("--jsonl");
         try {
             String[] inputFiles = {
                     "src/main/resources/small.json",
                     "src/main/resources/medium.json",
                     "src/main/resources/large.json"
             };
-            List<ResultRecord> allResults = new ArrayList<>();
-
-            System.out.println("=== MST Algorithm Comparison ===\n");
-
-            for (String inputFile : inputFiles) {
-                System.out.println("Processing: " + inputFile);
-                System.out.println("-".repeat(50));
-
-                List<JsonIO.GraphData> graphs = JsonIO.readGraphs(inputFile);
-
-                for (JsonIO.GraphData gd : graphs) {
-                    Graphs g = gd.graph;
-                    String name = gd.name;
-
-                    System.out.println("\nGraph: " + name);
-                    System.out.println("  Vertices: " + g.vertices());
-                    System.out.println("  Edges: " + g.edgeCount());
-
-                    Prim.Result primResult = Prim.run(g, 0);
-                    System.out.println("\n  Prim's Algorithm:");
-                    System.out.println("    Total Cost: " + primResult.totalCost);
-                    System.out.println("    Time: " + primResult.timeMs + " ms");
-                    System.out.println("    Operations: " + primResult.ops);
-                    System.out.println("    MST Edges: " + primResult.mst.size());
-
-                    Kruskal.Result kruskalResult = Kruskal.run(g);
-                    System.out.println("\n  Kruskal's Algorithm:");
-                    System.out.println("    Total Cost: " + kruskalResult.totalCost);
-                    System.out.println("    Time: " + kruskalResult.timeMs + " ms");
-                    System.out.println("    Operations: " + kruskalResult.ops);
-                    System.out.println("    MST Edges: " + kruskalResult.mst.size());
-
-                    if (Math.abs(primResult.totalCost - kruskalResult.totalCost) < 0.001) {
-                        System.out.println("\n  ✓ Both algorithms produce same total cost!");
-                    } else {
-                        System.out.println("\n  ✗ WARNING: Costs differ!");
+            int binaryIndex = Arrays.asList(args).indexOf("--to-binary");
+            if (binaryIndex >= 0) {
+                boolean hasDir = binaryIndex + 1 < args.length && !args[binaryIndex + 1].startsWith("--");
+                Path outputDir = Paths.get(hasDir ? args[binaryIndex + 1] : "binary");
+                for (String inputFile : inputFiles) {
+                    // One directory per input, since graph indices restart in every file.
+                    String stem = Paths.get(inputFile).getFileName().toString().replaceFirst("\\.json$", "");
+                    for (Path file : BinaryGraphIO.convertJson(inputFile, outputDir.resolve(stem), true))
+                        System.out.println("✓ " + inputFile + " -> " + file);
+                }
+                return;
+            }
+
+            String resultsFile = jsonLines ? "output.jsonl" : "output.json";
+            ResultWriter.Format format = jsonLines ? ResultWriter.Format.JSON_LINES : ResultWriter.Format.JSON;
+            List<String> tableRows = new ArrayList<>();
+            int written;
+
+            System.out.println(auto ? "=== MST Automatic Engine Selection ===\n" : "=== MST Algorithm Comparison ===\n");
+
+            List<List<JsonIO.GraphData>> loaded = null;
+            if (parallelLoad) {
+                List<Path> paths = new ArrayList<>();
+                for (String inputFile : inputFiles)
+                    paths.add(Paths.get(inputFile));
+                loaded = ParallelGraphLoader.load(paths, ForkJoinPool.commonPool());
+            }
+
+            try (ResultWriter json = new ResultWriter(Paths.get(resultsFile), format);
+                 CSVwriter csv = new CSVwriter("results.csv")) {
+                for (int f = 0; f < inputFiles.length; f++) {
+                    String inputFile = inputFiles[f];
+                    System.out.println("Processing: " + inputFile);
+                    System.out.println("-".repeat(50));
+
+                    if (loaded != null) {
+                        for (JsonIO.GraphData gd : loaded.get(f))
+                            emit(process(gd, auto), auto, json, csv, tableRows);
+                        continue;
                     }
 
-                    ResultRecord record = new ResultRecord(
-                            name, g.vertices(), g.edgeCount(),
-                            primResult.totalCost, primResult.timeMs, primResult.ops,
-                            kruskalResult.totalCost, kruskalResult.timeMs, kruskalResult.ops);
-                    allResults.add(record);
+                    // Graphs are parsed one at a time and can be collected as soon as they are solved.
+                    try (Stream<JsonIO.GraphData> graphs = JsonIO.streamGraphs(Paths.get(inputFile))) {
+                        for (Iterator<JsonIO.GraphData> it = graphs.iterator(); it.hasNext(); )
+                            emit(process(it.next(), auto), auto, json, csv, tableRows);
+                    }
                 }
+                written = json.count();
             }
 
-            printSummaryTable(allResults);
-
-            System.out.println("\nWriting results to output.json...");
-            JsonIO.writeResults("output.json", allResults);
-            System.out.println("✓ Results written to output.json");
+            if (auto) {
+                printSelectionTable(tableRows);
+            } else {
+                printSummaryTable(tableRows);
+            }
 
-            System.out.println("Writing results to results.csv...");
-            CSVwriter.writeCSV("results.csv", allResults);
-            System.out.println("✓ Results written to results.csv");
+            System.out.println("\n✓ " + written + " results written to " + resultsFile);
+            System.out.println("✓ " + written + " results written to results.csv");
 
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             System.err.println("Error: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
-    private static void printSummaryTable(List<ResultRecord> results) {
+    // Each record is written out as soon as its graph is solved; only its summary table row is kept.
+    private static void emit(ResultRecord rec, boolean auto, ResultWriter json, CSVwriter csv,
+                             List<String> tableRows) throws IOException {
+        json.write(rec);
+        csv.write(rec);
+        tableRows.add(auto ? selectionRow(rec) : summaryRow(rec));
+    }
+
+    private static ResultRecord process(JsonIO.GraphData gd, boolean auto) {
+        Graphs g = gd.graph;
+        String name = gd.name;
+
+        System.out.println("\nGraph: " + name);
+        System.out.println("  Vertices: " + g.vertices());
+        System.out.println("  Edges: " + g.edgeCount());
+
+        return auto ? solve(name, g) : compare(name, g);
+    }
+
+    private static ResultRecord compare(String name, Graphs g) {
+        Prim.Result primResult = Prim.run(g, 0);
+        System.out.println("\n  Prim's Algorithm:");
+        System.out.println("    Total Cost: " + primResult.totalCost);
+        System.out.println("    Time: " + primResult.timeMs + " ms");
+        System.out.println("    Operations: " + primResult.ops);
+        System.out.println("    MST Edges: " + primResult.mst.size());
+
+        Kruskal.Result kruskalResult = Kruskal.run(g);
+        System.out.println("\n  Kruskal's Algorithm:");
+        System.out.println("    Total Cost: " + kruskalResult.totalCost);
+        System.out.println("    Time: " + kruskalResult.timeMs + " ms");
+        System.out.println("    Operations: " + kruskalResult.ops);
+        System.out.println("    MST Edges: " + kruskalResult.mst.size());
+
+        Boruvka.Result boruvkaResult = Boruvka.run(g);
+        System.out.println("\n  Boruvka's Algorithm:");
+        System.out.println("    Total Cost: " + boruvkaResult.totalCost);
+        System.out.println("    Time: " + boruvkaResult.timeMs + " ms");
+        System.out.println("    Operations: " + boruvkaResult.ops);
+        System.out.println("    MST Edges: " + boruvkaResult.mst.size());
+
+        if (Math.abs(primResult.totalCost - kruskalResult.totalCost) < 0.001
+                && Math.abs(boruvkaResult.totalCost - kruskalResult.totalCost) < 0.001) {
+            System.out.println("\n  ✓ All algorithms produce same total cost!");
+        } else {
+            System.out.println("\n  ✗ WARNING: Costs differ!");
+        }
+
+        return new ResultRecord(
+                name, g.vertices(), g.edgeCount(),
+                primResult.totalCost, primResult.timeMs, primResult.ops,
+                kruskalResult.totalCost, kruskalResult.timeMs, kruskalResult.ops,
+                boruvkaResult.totalCost, boruvkaResult.timeMs, boruvkaResult.ops);
+    }
+
+    private static ResultRecord solve(String name, Graphs g) {
+        MstSolver.Result result = MstSolver.solve(g);
+        System.out.println("\n  Selected Engine: " + result.engine);
+        System.out.printf("    Density: %.4f, Integer Weights: %s%n", result.density, result.integerWeights);
+        System.out.println("    Total Cost: " + result.totalCost);
+        System.out.println("    Time: " + result.timeMs + " ms");
+        System.out.println("    Operations: " + result.ops);
+        System.out.println("    MST Edges: " + result.mst.size());
+
+        return new ResultRecord(
+                name, g.vertices(), g.edgeCount(),
+                result.engine.name(), result.density,
+                result.totalCost, result.timeMs, result.ops);
+    }
+
+    private static void printSummaryTable(List<String> rows) {
         System.out.println("\n=== SUMMARY TABLE ===\n");
-        System.out.printf("%-20s %8s %8s | %12s %8s | %12s %8s%n",
-                "Graph", "Vertices", "Edges", "Prim(ms)", "Cost", "Kruskal(ms)", "Cost");
+        System.out.printf("%-20s %8s %8s | %12s %8s | %12s %8s | %12s %8s%n",
+                "Graph", "Vertices", "Edges", "Prim(ms)", "Cost", "Kruskal(ms)", "Cost", "Boruvka(ms)", "Cost");
+        System.out.println("-".repeat(109));
+
+        for (String row : rows)
+            System.out.println(row);
+    }
+
+    private static String summaryRow(ResultRecord r) {
+        return String.format("%-20s %8d %8d | %12d %8.2f | %12d %8.2f | %12d %8.2f",
+                r.graphName, r.vertices, r.edges,
+                r.primTimeMs, r.primTotalCost,
+                r.kruskalTimeMs, r.kruskalTotalCost,
+                r.boruvkaTimeMs, r.boruvkaTotalCost);
+    }
+
+    private static void printSelectionTable(List<String> rows) {
+        System.out.println("\n=== SUMMARY TABLE ===\n");
+        System.out.printf("%-20s %8s %8s %8s | %-16s %8s %8s%n",
+                "Graph", "Vertices", "Edges", "Density", "Engine", "Time(ms)", "Cost");
         System.out.println("-".repeat(85));
 
-        for (ResultRecord r : results) {
-            System.out.printf("%-20s %8d %8d | %12d %8.2f | %12d %8.2f%n",
-                    r.graphName, r.vertices, r.edges,
-                    r.primTimeMs, r.primTotalCost,
-                    r.kruskalTimeMs, r.kruskalTotalCost);
-        }
+        for (String row : rows)
+            System.out.println(row);
+    }
+
+    private static String selectionRow(ResultRecord r) {
+        return String.format("%-20s %8d %8d %8.3f | %-16s %8d %8.2f",
+                r.graphName, r.vertices, r.edges, r.density,
+                r.selectedEngine, r.selectedTimeMs, r.selectedTotalCost);
     }
 }
\ No newline at end of file
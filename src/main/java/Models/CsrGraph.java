@@ -0,0 +1,146 @@
+package Models;
+
+import java.util.*;
+
+public final class CsrGraph implements IndexedGraph {
+    private final int V;
+    private final int[] edgeU;
+    private final int[] edgeV;
+    private final double[] edgeW;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final double[] weights;
+    private final int[] edgeIds;
+    private volatile int[] sortedOrder;
+
+    // Takes ownership of the edge columns; only the first E entries are used.
+    CsrGraph(int V, int[] u, int[] v, double[] w, int E) {
+        this.V = V;
+        this.edgeU = u.length == E ? u : Arrays.copyOf(u, E);
+        this.edgeV = v.length == E ? v : Arrays.copyOf(v, E);
+        this.edgeW = w.length == E ? w : Arrays.copyOf(w, E);
+
+        offsets = new int[V + 1];
+        for (int e = 0; e < E; e++) {
+            offsets[edgeU[e] + 1]++;
+            offsets[edgeV[e] + 1]++;
+        }
+        for (int i = 0; i < V; i++)
+            offsets[i + 1] += offsets[i];
+
+        neighbors = new int[2 * E];
+        weights = new double[2 * E];
+        edgeIds = new int[2 * E];
+        int[] fill = Arrays.copyOf(offsets, V);
+        for (int e = 0; e < E; e++) {
+            int a = fill[edgeU[e]]++;
+            neighbors[a] = edgeV[e];
+            weights[a] = edgeW[e];
+            edgeIds[a] = e;
+            int b = fill[edgeV[e]]++;
+            neighbors[b] = edgeU[e];
+            weights[b] = edgeW[e];
+            edgeIds[b] = e;
+        }
+    }
+
+    public static CsrGraph from(EdgeList g) {
+        int E = g.edgeCount();
+        int[] u = new int[E];
+        int[] v = new int[E];
+        double[] w = new double[E];
+        for (int e = 0; e < E; e++) {
+            u[e] = g.edgeU(e);
+            v[e] = g.edgeV(e);
+            w[e] = g.edgeWeight(e);
+        }
+        return new CsrGraph(g.vertices(), u, v, w, E);
+    }
+
+    public static CsrGraph from(Graphs g) {
+        List<Edges> list = g.edges();
+        int E = list.size();
+        int[] u = new int[E];
+        int[] v = new int[E];
+        double[] w = new double[E];
+        for (int e = 0; e < E; e++) {
+            Edges edge = list.get(e);
+            u[e] = edge.u;
+            v[e] = edge.v;
+            w[e] = edge.w;
+        }
+        return new CsrGraph(g.vertices(), u, v, w, E);
+    }
+
+    public int vertices() {
+        return V;
+    }
+
+    public int edgeCount() {
+        return edgeU.length;
+    }
+
+    public int edgeU(int e) {
+        return edgeU[e];
+    }
+
+    public int edgeV(int e) {
+        return edgeV[e];
+    }
+
+    public double edgeWeight(int e) {
+        return edgeW[e];
+    }
+
+    public Edges edge(int e) {
+        return new Edges(edgeU[e], edgeV[e], edgeW[e]);
+    }
+
+    public int adjStart(int v) {
+        return offsets[v];
+    }
+
+    public int adjEnd(int v) {
+        return offsets[v + 1];
+    }
+
+    public int adjNeighbor(int i) {
+        return neighbors[i];
+    }
+
+    public int adjEdge(int i) {
+        return edgeIds[i];
+    }
+
+    public double adjWeight(int i) {
+        return weights[i];
+    }
+
+    public boolean hasSortedEdgeOrder() {
+        return sortedOrder != null;
+    }
+
+    // Computed once and shared by every caller, so the returned array must not be modified.
+    public int[] sortedEdgeOrder() {
+        return sortedEdgeOrder(null);
+    }
+
+    // computed[0] is set to whether this call did the sort, decided under the lock so concurrent callers agree.
+    public int[] sortedEdgeOrder(boolean[] computed) {
+        boolean sorted = false;
+        int[] order = sortedOrder;
+        if (order == null) {
+            synchronized (this) {
+                order = sortedOrder;
+                if (order == null) {
+                    order = EdgeOrder.sorted(edgeW, false);
+                    sortedOrder = order;
+                    sorted = true;
+                }
+            }
+        }
+        if (computed != null)
+            computed[0] = sorted;
+        return order;
+    }
+}
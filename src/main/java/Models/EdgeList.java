@@ -0,0 +1,13 @@
+package Models;
+
+public interface EdgeList {
+    int vertices();
+
+    int edgeCount();
+
+    int edgeU(int e);
+
+    int edgeV(int e);
+
+    double edgeWeight(int e);
+}
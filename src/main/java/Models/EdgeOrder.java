@@ -0,0 +1,81 @@
+package Models;
+
+import java.util.*;
+
+public final class EdgeOrder {
+    private EdgeOrder() {
+    }
+
+    // Edge indices ordered by (weight, index), i.e. the same order a stable sort of the edges gives.
+    // Keys pack the weight rounded to float above the index so they can be sorted as primitive longs;
+    // runs that share a float key are then fixed up against the exact double weights.
+    public static int[] sorted(double[] w, boolean parallel) {
+        int n = w.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = ((long) sortableBits((float) w[i]) << 32) | i;
+
+        if (parallel) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++)
+            order[i] = (int) keys[i];
+
+        int[] tmp = null;
+        int runStart = 0;
+        for (int i = 1; i <= n; i++) {
+            if (i == n || (keys[i] >>> 32) != (keys[runStart] >>> 32)) {
+                if (i - runStart > 1) {
+                    if (tmp == null)
+                        tmp = new int[n];
+                    mergeSort(order, tmp, runStart, i, w);
+                }
+                runStart = i;
+            }
+        }
+        return order;
+    }
+
+    private static int sortableBits(float f) {
+        int bits = Float.floatToIntBits(f);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    public static void mergeSort(int[] a, int[] tmp, int lo, int hi, double[] w) {
+        if (hi - lo <= 16) {
+            for (int i = lo + 1; i < hi; i++) {
+                int x = a[i];
+                int j = i - 1;
+                while (j >= lo && before(x, a[j], w)) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = x;
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeSort(a, tmp, lo, mid, w);
+        mergeSort(a, tmp, mid, hi, w);
+        if (!before(a[mid], a[mid - 1], w))
+            return;
+        System.arraycopy(a, lo, tmp, lo, hi - lo);
+        int i = lo, j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && !before(tmp[j], tmp[i], w))) {
+                a[k] = tmp[i++];
+            } else {
+                a[k] = tmp[j++];
+            }
+        }
+    }
+
+    public static boolean before(int a, int b, double[] w) {
+        int c = Double.compare(w[a], w[b]);
+        return c < 0 || (c == 0 && a < b);
+    }
+}
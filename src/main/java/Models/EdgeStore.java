@@ -0,0 +1,96 @@
+package Models;
+
+import java.util.*;
+
+public class EdgeStore implements EdgeList {
+    private int V;
+    private int[] u;
+    private int[] v;
+    private double[] w;
+    private int size = 0;
+
+    public EdgeStore(int V) {
+        this(V, 16);
+    }
+
+    public EdgeStore(int V, int expectedEdges) {
+        this.V = V;
+        int capacity = Math.max(expectedEdges, 1);
+        this.u = new int[capacity];
+        this.v = new int[capacity];
+        this.w = new double[capacity];
+    }
+
+    public int vertices() {
+        return V;
+    }
+
+    public void setVertices(int V) {
+        this.V = V;
+    }
+
+    public int edgeCount() {
+        return size;
+    }
+
+    public int add(int a, int b, double weight) {
+        if (size == u.length)
+            grow(size + 1);
+        u[size] = a;
+        v[size] = b;
+        w[size] = weight;
+        return size++;
+    }
+
+    public void addAll(int[] us, int[] vs, double[] ws, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(us, offset, u, size, length);
+        System.arraycopy(vs, offset, v, size, length);
+        System.arraycopy(ws, offset, w, size, length);
+        size += length;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > u.length)
+            grow(capacity);
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, u.length * 2);
+        u = Arrays.copyOf(u, capacity);
+        v = Arrays.copyOf(v, capacity);
+        w = Arrays.copyOf(w, capacity);
+    }
+
+    public int edgeU(int e) {
+        return u[e];
+    }
+
+    public int edgeV(int e) {
+        return v[e];
+    }
+
+    public double edgeWeight(int e) {
+        return w[e];
+    }
+
+    public Edges edge(int e) {
+        return new Edges(u[e], v[e], w[e]);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Hands the columns to the CSR graph without copying when they are exactly full; the store must not be reused.
+    CsrGraph toCsr() {
+        return new CsrGraph(V, u, v, w, size);
+    }
+
+    public Graphs toGraphs() {
+        Graphs g = new Graphs(V, size);
+        for (int e = 0; e < size; e++)
+            g.addEdge(new Edges(u[e], v[e], w[e]));
+        return g;
+    }
+}
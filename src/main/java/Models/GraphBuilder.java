@@ -0,0 +1,69 @@
+package Models;
+
+public class GraphBuilder {
+    private final int V;
+    private EdgeStore store;
+
+    public GraphBuilder(int expectedV, int expectedE) {
+        this.V = expectedV;
+        this.store = new EdgeStore(expectedV, expectedE);
+    }
+
+    public int vertices() {
+        return V;
+    }
+
+    public int edgeCount() {
+        return store().edgeCount();
+    }
+
+    public GraphBuilder addEdge(int u, int v, double w) {
+        EdgeStore s = store();
+        check(u, v);
+        s.add(u, v, w);
+        return this;
+    }
+
+    public GraphBuilder addEdges(int[] us, int[] vs, double[] ws) {
+        return addEdges(us, vs, ws, 0, us.length);
+    }
+
+    public GraphBuilder addEdges(int[] us, int[] vs, double[] ws, int offset, int length) {
+        EdgeStore s = store();
+        if (vs.length < offset + length || ws.length < offset + length)
+            throw new IllegalArgumentException("Edge columns are shorter than offset + length");
+        for (int i = offset; i < offset + length; i++)
+            check(us[i], vs[i]);
+        s.addAll(us, vs, ws, offset, length);
+        return this;
+    }
+
+    public GraphBuilder addEdges(EdgeList g) {
+        EdgeStore s = store();
+        int E = g.edgeCount();
+        s.ensureCapacity(s.edgeCount() + E);
+        for (int e = 0; e < E; e++) {
+            check(g.edgeU(e), g.edgeV(e));
+            s.add(g.edgeU(e), g.edgeV(e), g.edgeWeight(e));
+        }
+        return this;
+    }
+
+    // The builder gives its columns to the frozen graph, so it cannot be used afterwards.
+    public CsrGraph freeze() {
+        CsrGraph g = store().toCsr();
+        store = null;
+        return g;
+    }
+
+    private EdgeStore store() {
+        if (store == null)
+            throw new IllegalStateException("Graph builder has already been frozen");
+        return store;
+    }
+
+    private void check(int u, int v) {
+        if (u < 0 || u >= V || v < 0 || v >= V)
+            throw new IllegalArgumentException("Edge (" + u + ", " + v + ") is outside 0.." + (V - 1));
+    }
+}
@@ -2,7 +2,7 @@ package Models;
 
 import java.util.*;
 
-public class Graphs {
+public class Graphs implements EdgeList {
     private int V;
     private List<Edges> edges;
     private List<List<Edges>> adj;
@@ -16,6 +16,16 @@ public class Graphs {
         }
     }
 
+    public Graphs(int V, int expectedEdges) {
+        this.V = V;
+        this.edges = new ArrayList<>(expectedEdges);
+        this.adj = new ArrayList<>(V);
+        int degree = V == 0 ? 0 : (int) ((2L * expectedEdges + V - 1) / V);
+        for (int i = 0; i < V; i++) {
+            adj.add(new ArrayList<>(degree));
+        }
+    }
+
 
     public int vertices() {
         return V;
@@ -38,4 +48,16 @@ public class Graphs {
     public List<Edges> adj(int v) {
         return Collections.unmodifiableList(adj.get(v));
     }
+
+    public int edgeU(int e) {
+        return edges.get(e).u;
+    }
+
+    public int edgeV(int e) {
+        return edges.get(e).v;
+    }
+
+    public double edgeWeight(int e) {
+        return edges.get(e).w;
+    }
 }
@@ -0,0 +1,17 @@
+package Models;
+
+public interface IndexedGraph extends EdgeList {
+    int adjStart(int v);
+
+    int adjEnd(int v);
+
+    int adjNeighbor(int i);
+
+    int adjEdge(int i);
+
+    double adjWeight(int i);
+
+    default int degree(int v) {
+        return adjEnd(v) - adjStart(v);
+    }
+}
@@ -0,0 +1,198 @@
+package Models;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+public final class OffHeapGraph implements IndexedGraph, AutoCloseable {
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final int V;
+    private final int E;
+    private final boolean intWeights;
+    private final MemorySegment edgeU;
+    private final MemorySegment edgeV;
+    private final MemorySegment edgeW;
+    private final MemorySegment offsets;
+    private final MemorySegment neighbors;
+    private final MemorySegment edgeIds;
+    private final MemorySegment adjWeights;
+    private final Arena owned;
+
+    OffHeapGraph(int V, int E, boolean intWeights, MemorySegment edgeU, MemorySegment edgeV, MemorySegment edgeW,
+                 MemorySegment offsets, MemorySegment neighbors, MemorySegment edgeIds, MemorySegment adjWeights,
+                 Arena owned) {
+        this.V = V;
+        this.E = E;
+        this.intWeights = intWeights;
+        this.edgeU = edgeU;
+        this.edgeV = edgeV;
+        this.edgeW = edgeW;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.edgeIds = edgeIds;
+        this.adjWeights = adjWeights;
+        this.owned = owned;
+    }
+
+    public static OffHeapGraph from(EdgeList g) {
+        Arena arena = Arena.ofShared();
+        try {
+            return build(g, arena, arena);
+        } catch (RuntimeException | Error e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    // The caller's arena controls the lifetime; close() on the returned graph does not free it.
+    public static OffHeapGraph from(EdgeList g, Arena arena) {
+        return build(g, arena, null);
+    }
+
+    // Wraps existing little-endian columns, e.g. a mapped file; integer weights are stored as int32.
+    public static OffHeapGraph wrap(int V, int E, boolean intWeights, MemorySegment u, MemorySegment v, MemorySegment w,
+                                    MemorySegment offsets, MemorySegment neighbors, MemorySegment edgeIds,
+                                    MemorySegment adjWeights, Arena owned) {
+        long weightBytes = intWeights ? 4 : 8;
+        if (u.byteSize() < 4L * E || v.byteSize() < 4L * E || w.byteSize() < weightBytes * E)
+            throw new IllegalArgumentException("Edge columns are shorter than " + E + " edges");
+        if (offsets.byteSize() < 4L * (V + 1) || neighbors.byteSize() < 8L * E || edgeIds.byteSize() < 8L * E
+                || adjWeights.byteSize() < 2 * weightBytes * E)
+            throw new IllegalArgumentException("Adjacency section is shorter than " + V + " vertices and " + E + " edges");
+        return new OffHeapGraph(V, E, intWeights, u, v, w, offsets, neighbors, edgeIds, adjWeights, owned);
+    }
+
+    // Builds the adjacency for existing edge columns in the given arena, which the graph then owns.
+    public static OffHeapGraph wrap(int V, int E, boolean intWeights, MemorySegment u, MemorySegment v, MemorySegment w,
+                                    Arena owned) {
+        long weightBytes = intWeights ? 4 : 8;
+        MemorySegment offsets = owned.allocate(4L * (V + 1), 8);
+        MemorySegment neighbors = owned.allocate(8L * E, 8);
+        MemorySegment edgeIds = owned.allocate(8L * E, 8);
+        MemorySegment adjWeights = owned.allocate(2 * weightBytes * E, 8);
+        buildAdjacency(V, E, intWeights, u, v, w, offsets, neighbors, edgeIds, adjWeights);
+        return wrap(V, E, intWeights, u, v, w, offsets, neighbors, edgeIds, adjWeights, owned);
+    }
+
+    private static OffHeapGraph build(EdgeList g, Arena arena, Arena owned) {
+        int V = g.vertices();
+        int E = g.edgeCount();
+        MemorySegment u = arena.allocate(4L * E, 8);
+        MemorySegment v = arena.allocate(4L * E, 8);
+        MemorySegment w = arena.allocate(8L * E, 8);
+        for (int e = 0; e < E; e++) {
+            u.setAtIndex(INT, e, g.edgeU(e));
+            v.setAtIndex(INT, e, g.edgeV(e));
+            w.setAtIndex(DOUBLE, e, g.edgeWeight(e));
+        }
+
+        MemorySegment offsets = arena.allocate(4L * (V + 1), 8);
+        MemorySegment neighbors = arena.allocate(8L * E, 8);
+        MemorySegment edgeIds = arena.allocate(8L * E, 8);
+        MemorySegment adjWeights = arena.allocate(16L * E, 8);
+        buildAdjacency(V, E, false, u, v, w, offsets, neighbors, edgeIds, adjWeights);
+
+        return new OffHeapGraph(V, E, false, u, v, w, offsets, neighbors, edgeIds, adjWeights, owned);
+    }
+
+    static void buildAdjacency(int V, int E, boolean intWeights, MemorySegment u, MemorySegment v, MemorySegment w,
+                               MemorySegment offsets, MemorySegment neighbors, MemorySegment edgeIds,
+                               MemorySegment adjWeights) {
+        offsets.fill((byte) 0);
+        for (int e = 0; e < E; e++) {
+            int a = u.getAtIndex(INT, e) + 1;
+            int b = v.getAtIndex(INT, e) + 1;
+            offsets.setAtIndex(INT, a, offsets.getAtIndex(INT, a) + 1);
+            offsets.setAtIndex(INT, b, offsets.getAtIndex(INT, b) + 1);
+        }
+        for (int i = 0; i < V; i++)
+            offsets.setAtIndex(INT, i + 1, offsets.getAtIndex(INT, i + 1) + offsets.getAtIndex(INT, i));
+
+        try (Arena scratch = Arena.ofConfined()) {
+            MemorySegment fill = scratch.allocate(4L * Math.max(V, 1), 8);
+            MemorySegment.copy(offsets, 0, fill, 0, 4L * V);
+            for (int e = 0; e < E; e++) {
+                int a = u.getAtIndex(INT, e);
+                int b = v.getAtIndex(INT, e);
+
+                int i = fill.getAtIndex(INT, a);
+                fill.setAtIndex(INT, a, i + 1);
+                neighbors.setAtIndex(INT, i, b);
+                edgeIds.setAtIndex(INT, i, e);
+
+                int j = fill.getAtIndex(INT, b);
+                fill.setAtIndex(INT, b, j + 1);
+                neighbors.setAtIndex(INT, j, a);
+                edgeIds.setAtIndex(INT, j, e);
+
+                if (intWeights) {
+                    int weight = w.getAtIndex(INT, e);
+                    adjWeights.setAtIndex(INT, i, weight);
+                    adjWeights.setAtIndex(INT, j, weight);
+                } else {
+                    double weight = w.getAtIndex(DOUBLE, e);
+                    adjWeights.setAtIndex(DOUBLE, i, weight);
+                    adjWeights.setAtIndex(DOUBLE, j, weight);
+                }
+            }
+        }
+    }
+
+    public int vertices() {
+        return V;
+    }
+
+    public int edgeCount() {
+        return E;
+    }
+
+    public int edgeU(int e) {
+        return edgeU.getAtIndex(INT, e);
+    }
+
+    public int edgeV(int e) {
+        return edgeV.getAtIndex(INT, e);
+    }
+
+    public double edgeWeight(int e) {
+        return intWeights ? edgeW.getAtIndex(INT, e) : edgeW.getAtIndex(DOUBLE, e);
+    }
+
+    public int adjStart(int v) {
+        return offsets.getAtIndex(INT, v);
+    }
+
+    public int adjEnd(int v) {
+        return offsets.getAtIndex(INT, v + 1);
+    }
+
+    public int adjNeighbor(int i) {
+        return neighbors.getAtIndex(INT, i);
+    }
+
+    public int adjEdge(int i) {
+        return edgeIds.getAtIndex(INT, i);
+    }
+
+    public double adjWeight(int i) {
+        return intWeights ? adjWeights.getAtIndex(INT, i) : adjWeights.getAtIndex(DOUBLE, i);
+    }
+
+    public boolean hasIntWeights() {
+        return intWeights;
+    }
+
+    public long byteSize() {
+        return edgeU.byteSize() + edgeV.byteSize() + edgeW.byteSize()
+                + offsets.byteSize() + neighbors.byteSize() + edgeIds.byteSize() + adjWeights.byteSize();
+    }
+
+    @Override
+    public void close() {
+        if (owned != null)
+            owned.close();
+    }
+}
@@ -0,0 +1,202 @@
+package Util;
+
+import Models.*;
+import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+// Layout, all little-endian: a 32-byte header (magic, version, V, E, weight type, flags, 8 reserved bytes),
+// then edgeU, edgeV and weights, then optionally offsets, neighbors, edge ids and adjacency weights.
+// Every section starts on an 8-byte boundary.
+public class BinaryGraphIO {
+    public static final int MAGIC = 0x4754534D; // "MSTG"
+    public static final int VERSION = 1;
+    public static final int WEIGHT_FLOAT64 = 0;
+    public static final int WEIGHT_INT32 = 1;
+    public static final int FLAG_CSR = 1;
+    public static final String EXTENSION = ".mstg";
+    private static final int HEADER_BYTES = 32;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    public static void write(Path file, EdgeList g, boolean withCsr) throws IOException {
+        write(file, g, hasIntWeights(g), withCsr);
+    }
+
+    public static void write(Path file, EdgeList g, boolean intWeights, boolean withCsr) throws IOException {
+        if (intWeights && !hasIntWeights(g))
+            throw new IllegalArgumentException("Graph has weights that do not fit in int32");
+        int V = g.vertices();
+        int E = g.edgeCount();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SectionWriter out = new SectionWriter(channel);
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putInt(V);
+            out.putInt(E);
+            out.putInt(intWeights ? WEIGHT_INT32 : WEIGHT_FLOAT64);
+            out.putInt(withCsr ? FLAG_CSR : 0);
+            out.putLong(0);
+
+            for (int e = 0; e < E; e++)
+                out.putInt(g.edgeU(e));
+            out.align();
+            for (int e = 0; e < E; e++)
+                out.putInt(g.edgeV(e));
+            out.align();
+            for (int e = 0; e < E; e++)
+                out.putWeight(g.edgeWeight(e), intWeights);
+            out.align();
+
+            if (withCsr) {
+                IndexedGraph csr = g instanceof IndexedGraph ? (IndexedGraph) g : CsrGraph.from(g);
+                for (int v = 0; v < V; v++)
+                    out.putInt(csr.adjStart(v));
+                out.putInt(2 * E);
+                out.align();
+                for (int i = 0; i < 2 * E; i++)
+                    out.putInt(csr.adjNeighbor(i));
+                out.align();
+                for (int i = 0; i < 2 * E; i++)
+                    out.putInt(csr.adjEdge(i));
+                out.align();
+                for (int i = 0; i < 2 * E; i++)
+                    out.putWeight(csr.adjWeight(i), intWeights);
+                out.align();
+            }
+            out.flush();
+        }
+    }
+
+    // Maps the file read-only; the returned graph owns the mapping and unmaps it on close().
+    public static OffHeapGraph map(Path file) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MemorySegment data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (data.byteSize() < HEADER_BYTES || data.get(INT, 0) != MAGIC)
+                throw new IOException(file + " is not a binary graph file");
+            int version = data.get(INT, 4);
+            if (version != VERSION)
+                throw new IOException(file + " has unsupported version " + version);
+            int V = data.get(INT, 8);
+            int E = data.get(INT, 12);
+            if (V < 0 || E < 0)
+                throw new IOException(file + " has a bad header: " + V + " vertices, " + E + " edges");
+            int weightType = data.get(INT, 16);
+            if (weightType != WEIGHT_FLOAT64 && weightType != WEIGHT_INT32)
+                throw new IOException(file + " has unsupported weight type " + weightType);
+            boolean intWeights = weightType == WEIGHT_INT32;
+            boolean hasCsr = (data.get(INT, 20) & FLAG_CSR) != 0;
+            long weightBytes = intWeights ? 4 : 8;
+
+            long offset = HEADER_BYTES;
+            MemorySegment u = data.asSlice(offset, 4L * E);
+            offset = align(offset + 4L * E);
+            MemorySegment v = data.asSlice(offset, 4L * E);
+            offset = align(offset + 4L * E);
+            MemorySegment w = data.asSlice(offset, weightBytes * E);
+            offset = align(offset + weightBytes * E);
+            if (!hasCsr)
+                return OffHeapGraph.wrap(V, E, intWeights, u, v, w, arena);
+
+            MemorySegment offsets = data.asSlice(offset, 4L * (V + 1));
+            offset = align(offset + 4L * (V + 1));
+            MemorySegment neighbors = data.asSlice(offset, 8L * E);
+            offset = align(offset + 8L * E);
+            MemorySegment edgeIds = data.asSlice(offset, 8L * E);
+            offset = align(offset + 8L * E);
+            MemorySegment adjWeights = data.asSlice(offset, 2 * weightBytes * E);
+            return OffHeapGraph.wrap(V, E, intWeights, u, v, w, offsets, neighbors, edgeIds, adjWeights, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            if (e instanceof IndexOutOfBoundsException)
+                throw new IOException(file + " is truncated", e);
+            throw e;
+        }
+    }
+
+    public static List<Path> convertJson(String jsonFile, Path outputDir, boolean withCsr) throws IOException {
+        Files.createDirectories(outputDir);
+        List<Path> files = new ArrayList<>();
+        for (JsonIO.EdgeStoreData data : JsonIO.readEdgeStores(jsonFile)) {
+            // The graph index keeps repeated names, or names that sanitize alike, from overwriting each other.
+            String name = String.format("%03d-%s", files.size(), data.name.replaceAll("[^A-Za-z0-9._-]", "_"));
+            Path file = outputDir.resolve(name + EXTENSION);
+            write(file, data.edges, withCsr);
+            files.add(file);
+        }
+        return files;
+    }
+
+    public static boolean hasIntWeights(EdgeList g) {
+        for (int e = 0; e < g.edgeCount(); e++) {
+            double w = g.edgeWeight(e);
+            if (w != Math.rint(w) || w < Integer.MIN_VALUE || w > Integer.MAX_VALUE)
+                return false;
+        }
+        return true;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    private static class SectionWriter {
+        final FileChannel channel;
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        long written = 0;
+
+        SectionWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int x) throws IOException {
+            ensure(4);
+            buffer.putInt(x);
+            written += 4;
+        }
+
+        void putLong(long x) throws IOException {
+            ensure(8);
+            buffer.putLong(x);
+            written += 8;
+        }
+
+        void putWeight(double w, boolean intWeights) throws IOException {
+            if (intWeights) {
+                putInt((int) w);
+            } else {
+                ensure(8);
+                buffer.putDouble(w);
+                written += 8;
+            }
+        }
+
+        void align() throws IOException {
+            while ((written & 7) != 0) {
+                ensure(1);
+                buffer.put((byte) 0);
+                written++;
+            }
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes)
+                flush();
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            buffer.clear();
+        }
+    }
+}
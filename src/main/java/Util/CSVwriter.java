@@ -1,53 +1,124 @@
 package Util;
 
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.Writer;
 import java.util.List;
+import java.util.Map;
 
-public class CSVwriter {
+public class CSVwriter implements Closeable {
+    private static final String HEADER = "Graph Name,Vertices,Edges," +
+            "Prim Total Cost,Prim Time (ms),Prim Total Operations," +
+            "Kruskal Total Cost,Kruskal Time (ms),Kruskal Total Operations," +
+            "Boruvka Total Cost,Boruvka Time (ms),Boruvka Total Operations," +
+            "Costs Match,Faster Algorithm,Time Difference (ms)," +
+            "Selected Engine,Density,Selected Total Cost,Selected Time (ms),Selected Total Operations";
+
+    private final Writer out;
+
+    // Writes the header now and one row per write(), so rows can be appended while graphs are still being solved.
+    public CSVwriter(String filename) throws IOException {
+        this.out = new BufferedWriter(new FileWriter(filename), 1 << 16);
+        out.write(HEADER);
+        out.write(System.lineSeparator());
+    }
 
     public static void writeCSV(String filename, List<ResultRecord> results) throws IOException {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            // Write header
-            writer.println("Graph Name,Vertices,Edges," +
-                    "Prim Total Cost,Prim Time (ms),Prim Total Operations," +
-                    "Kruskal Total Cost,Kruskal Time (ms),Kruskal Total Operations," +
-                    "Costs Match,Faster Algorithm,Time Difference (ms)");
-
-            // Write data
-            for (ResultRecord r : results) {
-                long primTotalOps = r.primOps.values().stream().mapToLong(Long::longValue).sum();
-                long kruskalTotalOps = r.kruskalOps.values().stream().mapToLong(Long::longValue).sum();
-                boolean costsMatch = Math.abs(r.primTotalCost - r.kruskalTotalCost) < 0.001;
-
-                String fasterAlgorithm;
-                long timeDiff;
-                if (r.primTimeMs < r.kruskalTimeMs) {
-                    fasterAlgorithm = "Prim";
-                    timeDiff = r.kruskalTimeMs - r.primTimeMs;
-                } else if (r.kruskalTimeMs < r.primTimeMs) {
-                    fasterAlgorithm = "Kruskal";
-                    timeDiff = r.primTimeMs - r.kruskalTimeMs;
-                } else {
-                    fasterAlgorithm = "Equal";
-                    timeDiff = 0;
-                }
-
-                writer.printf("%s,%d,%d,%.2f,%d,%d,%.2f,%d,%d,%s,%s,%d%n",
-                        r.graphName,
-                        r.vertices,
-                        r.edges,
-                        r.primTotalCost,
-                        r.primTimeMs,
-                        primTotalOps,
-                        r.kruskalTotalCost,
-                        r.kruskalTimeMs,
-                        kruskalTotalOps,
-                        costsMatch ? "Yes" : "No",
-                        fasterAlgorithm,
-                        timeDiff);
+        try (CSVwriter writer = new CSVwriter(filename)) {
+            for (ResultRecord r : results)
+                writer.write(r);
+        }
+    }
+
+    public void write(ResultRecord r) throws IOException {
+        String selectedColumns = ",,,,";
+        if (r.hasSelection()) {
+            selectedColumns = String.format("%s,%.4f,%.2f,%d,%d",
+                    field(r.selectedEngine), r.density, r.selectedTotalCost, r.selectedTimeMs, totalOps(r.selectedOps));
+        }
+
+        out.write(String.format("%s,%d,%d,%s,%s%n",
+                field(r.graphName),
+                r.vertices,
+                r.edges,
+                comparisonColumns(r),
+                selectedColumns));
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static String comparisonColumns(ResultRecord r) {
+        if (!r.hasComparison())
+            return ",,,,,,,,,,,";
+
+        boolean costsMatch = Math.abs(r.primTotalCost - r.kruskalTotalCost) < 0.001;
+
+        String fasterAlgorithm;
+        long timeDiff;
+        if (r.primTimeMs < r.kruskalTimeMs) {
+            fasterAlgorithm = "Prim";
+            timeDiff = r.kruskalTimeMs - r.primTimeMs;
+        } else if (r.kruskalTimeMs < r.primTimeMs) {
+            fasterAlgorithm = "Kruskal";
+            timeDiff = r.primTimeMs - r.kruskalTimeMs;
+        } else {
+            fasterAlgorithm = "Equal";
+            timeDiff = 0;
+        }
+
+        String boruvkaColumns = ",,";
+        if (r.hasBoruvka()) {
+            boruvkaColumns = String.format("%.2f,%d,%d",
+                    r.boruvkaTotalCost, r.boruvkaTimeMs, totalOps(r.boruvkaOps));
+            costsMatch = costsMatch && Math.abs(r.boruvkaTotalCost - r.kruskalTotalCost) < 0.001;
+
+            long fastest = Math.min(r.primTimeMs, r.kruskalTimeMs);
+            if (r.boruvkaTimeMs < fastest) {
+                fasterAlgorithm = "Boruvka";
+                timeDiff = fastest - r.boruvkaTimeMs;
+            } else if (r.boruvkaTimeMs == fastest) {
+                fasterAlgorithm = "Equal";
+                timeDiff = 0;
+            } else {
+                timeDiff = Math.min(timeDiff, r.boruvkaTimeMs - fastest);
             }
         }
+
+        return String.format("%.2f,%d,%d,%.2f,%d,%d,%s,%s,%s,%d",
+                r.primTotalCost,
+                r.primTimeMs,
+                totalOps(r.primOps),
+                r.kruskalTotalCost,
+                r.kruskalTimeMs,
+                totalOps(r.kruskalOps),
+                boruvkaColumns,
+                costsMatch ? "Yes" : "No",
+                fasterAlgorithm,
+                timeDiff);
+    }
+
+    // RFC 4180: a field with a comma, quote or line break is quoted and its quotes are doubled.
+    private static String field(String value) {
+        if (value == null)
+            return "";
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r')
+                return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static long totalOps(Map<String, Long> ops) {
+        return ops.values().stream().mapToLong(Long::longValue).sum();
     }
 }
\ No newline at end of file
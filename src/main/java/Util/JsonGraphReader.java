@@ -0,0 +1,406 @@
+package Util;
+
+import Models.*;
+import java.io.*;
+import java.util.Arrays;
+
+public class JsonGraphReader implements Closeable {
+    private final Reader in;
+    private final char[] buf;
+    private int pos = 0;
+    private int limit = 0;
+    private long consumed = 0;
+    private boolean eof = false;
+    private final StringBuilder text = new StringBuilder();
+    private final NumberParser numbers = new NumberParser();
+
+    // Edges are staged here, reused across graphs, so each EdgeStore is allocated once at its exact size.
+    private int[] us = new int[1 << 10];
+    private int[] vs = new int[1 << 10];
+    private double[] ws = new double[1 << 10];
+    private int staged = 0;
+
+    private boolean started = false;
+    private boolean first = true;
+    private boolean done = false;
+
+    public JsonGraphReader(Reader in) {
+        this(in, 1 << 16);
+    }
+
+    public JsonGraphReader(Reader in, int bufferSize) {
+        this.in = in;
+        this.buf = new char[Math.max(bufferSize, 16)];
+    }
+
+    // Next element of the top-level "graphs" array, or null once the array is exhausted.
+    public JsonIO.EdgeStoreData next() throws IOException {
+        if (done)
+            return null;
+        if (!started) {
+            started = true;
+            if (!seekGraphs()) {
+                done = true;
+                return null;
+            }
+        }
+        int c = peek();
+        if (c == ']') {
+            pos++;
+            done = true;
+            return null;
+        }
+        if (!first)
+            expect(',');
+        first = false;
+        return readGraph();
+    }
+
+    JsonIO.EdgeStoreData readGraph() throws IOException {
+        String name = "";
+        int vertices = 0;
+        staged = 0;
+
+        expect('{');
+        if (peek() == '}') {
+            pos++;
+            return new JsonIO.EdgeStoreData(name, new EdgeStore(0, 0));
+        }
+        do {
+            readKey();
+            expect(':');
+            if (keyIs("name")) {
+                name = readString();
+            } else if (keyIs("vertices")) {
+                vertices = readInt();
+            } else if (keyIs("edges")) {
+                readEdges();
+            } else {
+                skipValue();
+            }
+        } while (endOfMember('}'));
+
+        EdgeStore store = new EdgeStore(vertices, staged);
+        store.addAll(us, vs, ws, 0, staged);
+        return new JsonIO.EdgeStoreData(name, store);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean seekGraphs() throws IOException {
+        if (peek() < 0)
+            return false;
+        expect('{');
+        if (peek() == '}') {
+            pos++;
+            return false;
+        }
+        do {
+            readKey();
+            expect(':');
+            if (keyIs("graphs")) {
+                expect('[');
+                return true;
+            }
+            skipValue();
+        } while (endOfMember('}'));
+        return false;
+    }
+
+    private void readEdges() throws IOException {
+        expect('[');
+        if (peek() == ']') {
+            pos++;
+            return;
+        }
+        do {
+            int u = 0, v = 0;
+            double w = 0.0;
+            expect('{');
+            if (peek() != '}') {
+                do {
+                    readKey();
+                    expect(':');
+                    if (keyIs("u")) {
+                        u = readInt();
+                    } else if (keyIs("v")) {
+                        v = readInt();
+                    } else if (keyIs("w")) {
+                        w = readDouble();
+                    } else {
+                        skipValue();
+                    }
+                } while (endOfMember('}'));
+            } else {
+                pos++;
+            }
+            stage(u, v, w);
+        } while (endOfMember(']'));
+    }
+
+    private void stage(int u, int v, double w) {
+        if (staged == us.length) {
+            int capacity = us.length * 2;
+            us = Arrays.copyOf(us, capacity);
+            vs = Arrays.copyOf(vs, capacity);
+            ws = Arrays.copyOf(ws, capacity);
+        }
+        us[staged] = u;
+        vs[staged] = v;
+        ws[staged] = w;
+        staged++;
+    }
+
+    // Consumes the separator after a member or element: true on ',', false on the closing bracket.
+    private boolean endOfMember(char close) throws IOException {
+        int c = peek();
+        if (c == ',') {
+            pos++;
+            return true;
+        }
+        if (c == close) {
+            pos++;
+            return false;
+        }
+        throw error("expected ',' or '" + close + "'");
+    }
+
+    private void readKey() throws IOException {
+        expect('"');
+        text.setLength(0);
+        readStringBody(text);
+    }
+
+    private boolean keyIs(String key) {
+        if (text.length() != key.length())
+            return false;
+        for (int i = 0; i < key.length(); i++) {
+            if (text.charAt(i) != key.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        readStringBody(sb);
+        return sb.toString();
+    }
+
+    private void readStringBody(StringBuilder sb) throws IOException {
+        while (true) {
+            int c = read();
+            if (c < 0)
+                throw error("unterminated string");
+            if (c == '"')
+                return;
+            if (c != '\\') {
+                if (sb != null)
+                    sb.append((char) c);
+                continue;
+            }
+            int e = read();
+            char decoded;
+            switch (e) {
+                case '"': decoded = '"'; break;
+                case '\\': decoded = '\\'; break;
+                case '/': decoded = '/'; break;
+                case 'b': decoded = '\b'; break;
+                case 'f': decoded = '\f'; break;
+                case 'n': decoded = '\n'; break;
+                case 'r': decoded = '\r'; break;
+                case 't': decoded = '\t'; break;
+                case 'u': {
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0)
+                            throw error("bad unicode escape");
+                        code = code * 16 + digit;
+                    }
+                    decoded = (char) code;
+                    break;
+                }
+                default:
+                    throw error("bad escape");
+            }
+            if (sb != null)
+                sb.append(decoded);
+        }
+    }
+
+    private int readInt() throws IOException {
+        double d = readNumber();
+        if (numbers.isInteger()) {
+            long value = numbers.longValue();
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+                throw error("integer out of range");
+            return (int) value;
+        }
+        // A number like 4.0 or 1e3 is still accepted when it is integral.
+        if (d != Math.rint(d) || d < Integer.MIN_VALUE || d > Integer.MAX_VALUE)
+            throw error("expected integer");
+        return (int) d;
+    }
+
+    private double readDouble() throws IOException {
+        return readNumber();
+    }
+
+    // Parsed in place once the whole token sits in the buffer; only a token longer than the buffer is copied out.
+    private double readNumber() throws IOException {
+        peek();
+        int end = numberEnd();
+        if (end == limit && !eof) {
+            compact();
+            end = numberEnd();
+        }
+        try {
+            if (end == limit && !eof) {
+                text.setLength(0);
+                while (ensure() && isNumberChar(buf[pos]))
+                    text.append(buf[pos++]);
+                char[] token = new char[text.length()];
+                text.getChars(0, token.length, token, 0);
+                double d = numbers.parse(token, 0, token.length);
+                if (numbers.end() != token.length)
+                    throw error("bad number");
+                return d;
+            }
+            double d = numbers.parse(buf, pos, end);
+            if (numbers.end() != end)
+                throw error("bad number");
+            pos = end;
+            return d;
+        } catch (NumberFormatException e) {
+            throw error(e.getMessage());
+        }
+    }
+
+    private int numberEnd() {
+        int i = pos;
+        while (i < limit && isNumberChar(buf[i]))
+            i++;
+        return i;
+    }
+
+    private static boolean isNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private void skipValue() throws IOException {
+        int c = peek();
+        switch (c) {
+            case '{':
+                pos++;
+                if (peek() == '}') {
+                    pos++;
+                    return;
+                }
+                do {
+                    expect('"');
+                    readStringBody(null);
+                    expect(':');
+                    skipValue();
+                } while (endOfMember('}'));
+                return;
+            case '[':
+                pos++;
+                if (peek() == ']') {
+                    pos++;
+                    return;
+                }
+                do {
+                    skipValue();
+                } while (endOfMember(']'));
+                return;
+            case '"':
+                pos++;
+                readStringBody(null);
+                return;
+            case 't':
+                skipLiteral("true");
+                return;
+            case 'f':
+                skipLiteral("false");
+                return;
+            case 'n':
+                skipLiteral("null");
+                return;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber();
+                    return;
+                }
+                throw error("unexpected value");
+        }
+    }
+
+    private void skipLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (read() != literal.charAt(i))
+                throw error("expected " + literal);
+        }
+    }
+
+    private void expect(char c) throws IOException {
+        if (peek() != c)
+            throw error("expected '" + c + "'");
+        pos++;
+    }
+
+    // Next non-whitespace character without consuming it, or -1 at end of input.
+    private int peek() throws IOException {
+        while (ensure()) {
+            char c = buf[pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                return c;
+            pos++;
+        }
+        return -1;
+    }
+
+    private int read() throws IOException {
+        return ensure() ? buf[pos++] : -1;
+    }
+
+    private boolean ensure() throws IOException {
+        if (pos < limit)
+            return true;
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+        int n = in.read(buf, 0, buf.length);
+        if (n <= 0) {
+            eof = true;
+            return false;
+        }
+        limit = n;
+        return true;
+    }
+
+    // Moves the unread tail to the front and fills the rest of the buffer.
+    private void compact() throws IOException {
+        int remaining = limit - pos;
+        System.arraycopy(buf, pos, buf, 0, remaining);
+        consumed += pos;
+        pos = 0;
+        limit = remaining;
+        while (limit < buf.length) {
+            int n = in.read(buf, limit, buf.length - limit);
+            if (n <= 0) {
+                eof = true;
+                return;
+            }
+            limit += n;
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException("Malformed graph JSON at offset " + (consumed + pos) + ": " + message);
+    }
+}
@@ -0,0 +1,146 @@
+package Util;
+
+public final class NumberParser {
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT = 1L << 53;
+    private static final int MAX_DIGITS = 18;
+
+    private int end;
+    private boolean integer;
+    private long longValue;
+    private long fastPaths;
+    private long fallbacks;
+
+    // Parses one JSON number starting at start; end() is where it stopped. Throws NumberFormatException on bad syntax.
+    public double parse(char[] buf, int start, int limit) {
+        int i = start;
+        boolean negative = false;
+        if (i < limit && buf[i] == '-') {
+            negative = true;
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int dropped = 0;
+        int intStart = i;
+        if (i < limit && buf[i] == '0') {
+            i++;
+        } else {
+            while (i < limit && buf[i] >= '0' && buf[i] <= '9') {
+                if (digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + (buf[i] - '0');
+                    if (mantissa != 0)
+                        digits++;
+                } else {
+                    dropped++;
+                }
+                i++;
+            }
+        }
+        if (i == intStart)
+            throw error(buf, start, i);
+
+        int exp10 = dropped;
+        boolean truncated = dropped > 0;
+        integer = true;
+        if (i < limit && buf[i] == '.') {
+            integer = false;
+            i++;
+            int fracStart = i;
+            while (i < limit && buf[i] >= '0' && buf[i] <= '9') {
+                if (digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + (buf[i] - '0');
+                    exp10--;
+                    if (mantissa != 0)
+                        digits++;
+                } else if (buf[i] != '0') {
+                    truncated = true;
+                }
+                i++;
+            }
+            if (i == fracStart)
+                throw error(buf, start, i);
+        }
+        if (i < limit && (buf[i] == 'e' || buf[i] == 'E')) {
+            integer = false;
+            i++;
+            boolean expNegative = false;
+            if (i < limit && (buf[i] == '+' || buf[i] == '-')) {
+                expNegative = buf[i] == '-';
+                i++;
+            }
+            int expStart = i;
+            int exp = 0;
+            while (i < limit && buf[i] >= '0' && buf[i] <= '9') {
+                if (exp < 100_000)
+                    exp = exp * 10 + (buf[i] - '0');
+                i++;
+            }
+            if (i == expStart)
+                throw error(buf, start, i);
+            exp10 += expNegative ? -exp : exp;
+        }
+        end = i;
+
+        if (integer && !truncated) {
+            longValue = negative ? -mantissa : mantissa;
+        } else {
+            integer = false;
+        }
+
+        if (mantissa == 0 && !truncated) {
+            fastPaths++;
+            return negative ? -0.0 : 0.0;
+        }
+        // Clinger's fast path: an exact mantissa times an exact power of ten rounds correctly in one operation.
+        if (!truncated && mantissa <= MAX_EXACT) {
+            double m = mantissa;
+            if (exp10 >= 0 && exp10 <= 22) {
+                fastPaths++;
+                return negative ? -(m * POW10[exp10]) : m * POW10[exp10];
+            }
+            if (exp10 < 0 && exp10 >= -22) {
+                fastPaths++;
+                return negative ? -(m / POW10[-exp10]) : m / POW10[-exp10];
+            }
+            if (exp10 > 22 && exp10 <= 22 + 15) {
+                double scaled = m * POW10[exp10 - 22];
+                if (scaled <= MAX_EXACT) {
+                    fastPaths++;
+                    return negative ? -(scaled * 1e22) : scaled * 1e22;
+                }
+            }
+        }
+        fallbacks++;
+        return Double.parseDouble(new String(buf, start, end - start));
+    }
+
+    public int end() {
+        return end;
+    }
+
+    // Whether the last number was a plain integer literal, in which case longValue() holds it exactly.
+    public boolean isInteger() {
+        return integer;
+    }
+
+    public long longValue() {
+        return longValue;
+    }
+
+    public long fastPaths() {
+        return fastPaths;
+    }
+
+    public long fallbacks() {
+        return fallbacks;
+    }
+
+    private static NumberFormatException error(char[] buf, int start, int at) {
+        return new NumberFormatException("Bad JSON number '" + new String(buf, start, at - start) + "'");
+    }
+}
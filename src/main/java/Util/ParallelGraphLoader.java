@@ -0,0 +1,174 @@
+package Util;
+
+import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class ParallelGraphLoader {
+    private static final byte[] GRAPHS_KEY = "graphs".getBytes(StandardCharsets.US_ASCII);
+
+    // Graphs of every file, in file order and in document order within each file.
+    public static List<List<JsonIO.GraphData>> load(List<Path> files, ExecutorService pool) throws IOException {
+        try (Arena arena = Arena.ofShared()) {
+            List<Callable<MemorySegment>> maps = new ArrayList<>();
+            for (Path file : files)
+                maps.add(() -> map(file, arena));
+            List<MemorySegment> segments = invokeAll(pool, maps);
+
+            List<Callable<List<long[]>>> scans = new ArrayList<>();
+            for (MemorySegment segment : segments)
+                scans.add(() -> graphRanges(segment));
+            List<List<long[]>> ranges = invokeAll(pool, scans);
+
+            List<Callable<JsonIO.GraphData>> parses = new ArrayList<>();
+            for (int f = 0; f < files.size(); f++) {
+                MemorySegment segment = segments.get(f);
+                for (long[] range : ranges.get(f))
+                    parses.add(() -> parse(segment.asSlice(range[0], range[1] - range[0])));
+            }
+            List<JsonIO.GraphData> parsed = invokeAll(pool, parses);
+
+            List<List<JsonIO.GraphData>> result = new ArrayList<>(files.size());
+            int next = 0;
+            for (int f = 0; f < files.size(); f++) {
+                int count = ranges.get(f).size();
+                result.add(new ArrayList<>(parsed.subList(next, next + count)));
+                next += count;
+            }
+            return result;
+        }
+    }
+
+    // Byte ranges [start, end) of the objects in the top-level "graphs" array, found without parsing them.
+    public static List<long[]> graphRanges(MemorySegment data) {
+        List<long[]> ranges = new ArrayList<>();
+        long n = data.byteSize();
+        int depth = 0;
+        boolean inString = false, escape = false;
+        long stringStart = -1, stringEnd = -1;
+        boolean graphsKey = false, inGraphs = false;
+        long objectStart = -1;
+
+        for (long i = 0; i < n; i++) {
+            byte b = data.get(ValueLayout.JAVA_BYTE, i);
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                } else if (b == '\\') {
+                    escape = true;
+                } else if (b == '"') {
+                    inString = false;
+                    stringEnd = i;
+                }
+                continue;
+            }
+            switch (b) {
+                case '"':
+                    inString = true;
+                    stringStart = i + 1;
+                    break;
+                case ':':
+                    if (depth == 1)
+                        graphsKey = matches(data, stringStart, stringEnd, GRAPHS_KEY);
+                    break;
+                case '{':
+                case '[':
+                    if (depth == 1 && b == '[' && graphsKey)
+                        inGraphs = true;
+                    if (depth == 2 && inGraphs && b == '{')
+                        objectStart = i;
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    if (depth == 2 && inGraphs && b == '}')
+                        ranges.add(new long[] { objectStart, i + 1 });
+                    if (depth == 1 && inGraphs)
+                        return ranges;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return ranges;
+    }
+
+    private static boolean matches(MemorySegment data, long start, long end, byte[] key) {
+        if (start < 0 || end - start != key.length)
+            return false;
+        for (int k = 0; k < key.length; k++) {
+            if (data.get(ValueLayout.JAVA_BYTE, start + k) != key[k])
+                return false;
+        }
+        return true;
+    }
+
+    private static MemorySegment map(Path file, Arena arena) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        }
+    }
+
+    private static JsonIO.GraphData parse(MemorySegment range) throws IOException {
+        Reader in = new InputStreamReader(new SegmentInputStream(range), StandardCharsets.UTF_8);
+        try (JsonGraphReader reader = new JsonGraphReader(in)) {
+            JsonIO.EdgeStoreData data = reader.readGraph();
+            return new JsonIO.GraphData(data.name, data.edges.toGraphs());
+        }
+    }
+
+    private static <T> List<T> invokeAll(ExecutorService pool, List<Callable<T>> tasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : pool.invokeAll(tasks))
+                results.add(future.get());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading graphs");
+        }
+        return results;
+    }
+
+    private static class SegmentInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        SegmentInputStream(MemorySegment segment) {
+            this.buffer = segment.asByteBuffer();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+            if (!buffer.hasRemaining())
+                return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
@@ -15,6 +15,16 @@ public class ResultRecord {
     public long kruskalTimeMs;
     public Map<String, Long> kruskalOps;
 
+    public double boruvkaTotalCost;
+    public long boruvkaTimeMs;
+    public Map<String, Long> boruvkaOps;
+
+    public String selectedEngine;
+    public double density;
+    public double selectedTotalCost;
+    public long selectedTimeMs;
+    public Map<String, Long> selectedOps;
+
     public ResultRecord(String graphName, int vertices, int edges,
                         double primTotalCost, long primTimeMs, Map<String, Long> primOps,
                         double kruskalTotalCost, long kruskalTimeMs, Map<String, Long> kruskalOps) {
@@ -29,12 +39,59 @@ public class ResultRecord {
         this.kruskalOps = kruskalOps;
     }
 
-    public String toString() {
-        return String.format("Graph: %s (V=%d, E=%d)\n" +
-                        "  Prim:    Cost=%.2f, Time=%dms, Ops=%s\n" +
-                        "  Kruskal: Cost=%.2f, Time=%dms, Ops=%s",
-                graphName, vertices, edges,
+    public ResultRecord(String graphName, int vertices, int edges,
+                        double primTotalCost, long primTimeMs, Map<String, Long> primOps,
+                        double kruskalTotalCost, long kruskalTimeMs, Map<String, Long> kruskalOps,
+                        double boruvkaTotalCost, long boruvkaTimeMs, Map<String, Long> boruvkaOps) {
+        this(graphName, vertices, edges,
                 primTotalCost, primTimeMs, primOps,
                 kruskalTotalCost, kruskalTimeMs, kruskalOps);
+        this.boruvkaTotalCost = boruvkaTotalCost;
+        this.boruvkaTimeMs = boruvkaTimeMs;
+        this.boruvkaOps = boruvkaOps;
+    }
+
+    public ResultRecord(String graphName, int vertices, int edges,
+                        String selectedEngine, double density,
+                        double selectedTotalCost, long selectedTimeMs, Map<String, Long> selectedOps) {
+        this.graphName = graphName;
+        this.vertices = vertices;
+        this.edges = edges;
+        this.selectedEngine = selectedEngine;
+        this.density = density;
+        this.selectedTotalCost = selectedTotalCost;
+        this.selectedTimeMs = selectedTimeMs;
+        this.selectedOps = selectedOps;
+    }
+
+    public boolean hasComparison() {
+        return primOps != null && kruskalOps != null;
+    }
+
+    public boolean hasSelection() {
+        return selectedEngine != null;
+    }
+
+    public boolean hasBoruvka() {
+        return boruvkaOps != null;
+    }
+
+    public String toString() {
+        String s = String.format("Graph: %s (V=%d, E=%d)", graphName, vertices, edges);
+        if (hasComparison()) {
+            s += String.format("\n  Prim:    Cost=%.2f, Time=%dms, Ops=%s\n" +
+                            "  Kruskal: Cost=%.2f, Time=%dms, Ops=%s",
+                    primTotalCost, primTimeMs, primOps,
+                    kruskalTotalCost, kruskalTimeMs, kruskalOps);
+        }
+        if (hasBoruvka()) {
+            s += String.format("\n  Boruvka: Cost=%.2f, Time=%dms, Ops=%s",
+                    boruvkaTotalCost, boruvkaTimeMs, boruvkaOps);
+        }
+        if (hasSelection()) {
+            s += String.format("\n  Selected %s (density=%.3f): Cost=%.2f, Time=%dms, Ops=%s",
+                    selectedEngine, density, selectedTotalCost, selectedTimeMs, selectedOps);
+        }
+        return s;
     }
 }
@@ -0,0 +1,218 @@
+package Util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// Appends each record as soon as it is written, so a long batch never holds its results in memory.
+// JSON_LINES puts one compact object per line; JSON keeps the pretty {"results": [...]} document.
+public class ResultWriter implements Closeable {
+    public enum Format { JSON_LINES, JSON }
+
+    private static final int BUFFER_CHARS = 1 << 20;
+    private static final long FLUSH_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final Writer out;
+    private final Format format;
+    private final String nl;
+    private final StringBuilder line = new StringBuilder(1 << 12);
+    private int count = 0;
+    private long lastFlush = System.nanoTime();
+    private boolean closed = false;
+
+    public ResultWriter(Path file, Format format) throws IOException {
+        this(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), format);
+    }
+
+    public ResultWriter(Writer out, Format format) throws IOException {
+        this.out = new BufferedWriter(out, BUFFER_CHARS);
+        this.format = format;
+        // The pretty format keeps the platform line separator it was always written with.
+        this.nl = format == Format.JSON ? System.lineSeparator() : "\n";
+        if (format == Format.JSON)
+            this.out.write("{" + nl + "  \"results\": [" + nl);
+    }
+
+    public void write(ResultRecord rec) throws IOException {
+        if (closed)
+            throw new IllegalStateException("Result writer is closed");
+        line.setLength(0);
+        if (format == Format.JSON_LINES) {
+            appendCompact(rec);
+        } else {
+            if (count > 0)
+                line.append(',').append(nl);
+            appendPretty(rec);
+        }
+        out.append(line);
+        count++;
+
+        // Bounded staleness: a slow batch still shows progress on disk, a fast one is not flushed per record.
+        long now = System.nanoTime();
+        if (now - lastFlush >= FLUSH_INTERVAL_NANOS) {
+            out.flush();
+            lastFlush = now;
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+        lastFlush = System.nanoTime();
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public Format format() {
+        return format;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        try {
+            if (format == Format.JSON)
+                out.write((count > 0 ? nl : "") + "  ]" + nl + "}" + nl);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void appendCompact(ResultRecord rec) {
+        line.append("{\"graphName\":");
+        appendString(rec.graphName);
+        line.append(",\"vertices\":").append(rec.vertices);
+        line.append(",\"edges\":").append(rec.edges);
+        if (rec.hasComparison()) {
+            line.append(",\"prim\":");
+            appendCompactAlgorithm(rec.primTotalCost, rec.primTimeMs, rec.primOps);
+            line.append(",\"kruskal\":");
+            appendCompactAlgorithm(rec.kruskalTotalCost, rec.kruskalTimeMs, rec.kruskalOps);
+        }
+        if (rec.hasBoruvka()) {
+            line.append(",\"boruvka\":");
+            appendCompactAlgorithm(rec.boruvkaTotalCost, rec.boruvkaTimeMs, rec.boruvkaOps);
+        }
+        if (rec.hasSelection()) {
+            line.append(",\"selected\":{\"engine\":");
+            appendString(rec.selectedEngine);
+            line.append(",\"density\":").append(rec.density).append(',');
+            appendCompactFields(rec.selectedTotalCost, rec.selectedTimeMs, rec.selectedOps);
+            line.append('}');
+        }
+        line.append('}').append(nl);
+    }
+
+    private void appendCompactAlgorithm(double totalCost, long timeMs, Map<String, Long> ops) {
+        line.append('{');
+        appendCompactFields(totalCost, timeMs, ops);
+        line.append('}');
+    }
+
+    private void appendCompactFields(double totalCost, long timeMs, Map<String, Long> ops) {
+        line.append("\"totalCost\":").append(totalCost);
+        line.append(",\"timeMs\":").append(timeMs);
+        line.append(",\"operations\":{");
+        boolean first = true;
+        for (Map.Entry<String, Long> entry : ops.entrySet()) {
+            if (!first)
+                line.append(',');
+            first = false;
+            appendString(entry.getKey());
+            line.append(':').append(entry.getValue().longValue());
+        }
+        line.append('}');
+    }
+
+    private void appendPretty(ResultRecord rec) {
+        line.append("    {").append(nl);
+        line.append("      \"graphName\": ");
+        appendString(rec.graphName);
+        line.append(',').append(nl);
+        line.append("      \"vertices\": ").append(rec.vertices).append(',').append(nl);
+        line.append("      \"edges\": ").append(rec.edges).append(',').append(nl);
+
+        List<String> blocks = new ArrayList<>(4);
+        if (rec.hasComparison()) {
+            blocks.add("prim");
+            blocks.add("kruskal");
+        }
+        if (rec.hasBoruvka())
+            blocks.add("boruvka");
+        if (rec.hasSelection())
+            blocks.add("selected");
+
+        for (int b = 0; b < blocks.size(); b++) {
+            String block = blocks.get(b);
+            line.append("      \"").append(block).append("\": {").append(nl);
+            switch (block) {
+                case "prim":
+                    appendPrettyAlgorithm(rec.primTotalCost, rec.primTimeMs, rec.primOps);
+                    break;
+                case "kruskal":
+                    appendPrettyAlgorithm(rec.kruskalTotalCost, rec.kruskalTimeMs, rec.kruskalOps);
+                    break;
+                case "boruvka":
+                    appendPrettyAlgorithm(rec.boruvkaTotalCost, rec.boruvkaTimeMs, rec.boruvkaOps);
+                    break;
+                default:
+                    line.append("        \"engine\": ");
+                    appendString(rec.selectedEngine);
+                    line.append(',').append(nl);
+                    line.append("        \"density\": ").append(rec.density).append(',').append(nl);
+                    appendPrettyAlgorithm(rec.selectedTotalCost, rec.selectedTimeMs, rec.selectedOps);
+                    break;
+            }
+            line.append(b < blocks.size() - 1 ? "      }," : "      }").append(nl);
+        }
+        // The closing brace's separator is written by the next record or by close().
+        line.append("    }");
+    }
+
+    private void appendPrettyAlgorithm(double totalCost, long timeMs, Map<String, Long> ops) {
+        line.append("        \"totalCost\": ").append(totalCost).append(',').append(nl);
+        line.append("        \"timeMs\": ").append(timeMs).append(',').append(nl);
+        line.append("        \"operations\": {").append(nl);
+        int remaining = ops.size();
+        for (Map.Entry<String, Long> entry : ops.entrySet()) {
+            line.append("          ");
+            appendString(entry.getKey());
+            line.append(": ").append(entry.getValue().longValue());
+            if (--remaining > 0)
+                line.append(',');
+            line.append(nl);
+        }
+        line.append("        }").append(nl);
+    }
+
+    private void appendString(String s) {
+        if (s == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': line.append("\\\""); break;
+                case '\\': line.append("\\\\"); break;
+                case '\n': line.append("\\n"); break;
+                case '\r': line.append("\\r"); break;
+                case '\t': line.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                    break;
+            }
+        }
+        line.append('"');
+    }
+}
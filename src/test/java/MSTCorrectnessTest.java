@@ -1,5 +1,11 @@
+import Algoritm.Boruvka;
+import Algoritm.ExternalKruskal;
 import Algoritm.Kruskal;
+import Algoritm.MstSolver;
+import Algoritm.MultiEdgeFilter;
 import Algoritm.Prim;
+import Algoritm.SpanningForest;
+import Models.EdgeList;
 import Models.Edges;
 import Models.Graphs;
 import Util.JsonIO;
@@ -7,7 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -189,6 +198,321 @@ public class MSTCorrectnessTest {
         assertTrue(isConnected(kruskalResult.mst, 4));
     }
 
+    @Test
+    @DisplayName("Prim heap arity should not change the MST")
+    public void testPrimHeapArities() throws IOException {
+        List<JsonIO.GraphData> graphs = JsonIO.readGraphs("src/main/resources/large.json");
+
+        for (JsonIO.GraphData gd : graphs) {
+            Kruskal.Result kruskalResult = Kruskal.run(gd.graph);
+
+            for (int arity : new int[] { 2, 4, 8 }) {
+                Prim.Result primResult = Prim.run(gd.graph, 0, arity);
+                assertEquals(kruskalResult.totalCost, primResult.totalCost, 0.001,
+                        gd.name + ": " + arity + "-ary Prim cost should match Kruskal");
+                assertEquals(gd.graph.vertices() - 1, primResult.mst.size(),
+                        gd.name + ": " + arity + "-ary Prim should have V-1 edges");
+                assertEquals(primResult.ops.get("extracts").longValue(), gd.graph.vertices(),
+                        gd.name + ": " + arity + "-ary Prim should extract every vertex once");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lazy Prim should match eager Prim on all datasets")
+    public void testLazyPrimMatchesEager() throws IOException {
+        String[] inputFiles = {
+                "src/main/resources/small.json",
+                "src/main/resources/medium.json",
+                "src/main/resources/large.json"
+        };
+
+        for (String inputFile : inputFiles) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                Prim.Result eager = Prim.run(gd.graph, 0);
+                Prim.Result lazy = Prim.runLazy(gd.graph, 0);
+
+                assertEquals(eager.totalCost, lazy.totalCost, 0.001,
+                        gd.name + ": Lazy Prim cost should match eager Prim");
+                assertEquals(gd.graph.vertices() - 1, lazy.mst.size(),
+                        gd.name + ": Lazy Prim should have V-1 edges");
+                assertFalse(hasCycle(lazy.mst, gd.graph.vertices()),
+                        gd.name + ": Lazy Prim MST should be acyclic");
+            }
+        }
+
+        // Vertex 2 is first reached by the heavy 0-2 edge, then joins the tree through 1-2; the
+        // 0-2 entry is popped before 2-3 and must be skipped as stale.
+        Graphs g = new Graphs(4);
+        g.addEdge(new Edges(0, 2, 10.0));
+        g.addEdge(new Edges(0, 1, 1.0));
+        g.addEdge(new Edges(1, 2, 2.0));
+        g.addEdge(new Edges(2, 3, 20.0));
+        Prim.Result lazy = Prim.runLazy(g, 0);
+        assertEquals(23.0, lazy.totalCost, 0.001);
+        assertEquals(1, lazy.ops.get("staleSkips").longValue(), "The superseded 0-2 entry should be skipped once");
+    }
+
+    @Test
+    @DisplayName("Parallel Kruskal should pick exactly the same edges as Kruskal")
+    public void testParallelKruskalSameEdges() throws IOException {
+        String[] inputFiles = {
+                "src/main/resources/small.json",
+                "src/main/resources/medium.json",
+                "src/main/resources/large.json"
+        };
+
+        for (String inputFile : inputFiles) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                Kruskal.Result sequential = Kruskal.run(gd.graph);
+                Kruskal.Result parallel = Kruskal.runParallel(gd.graph);
+
+                assertEquals(sequential.mst, parallel.mst,
+                        gd.name + ": Parallel Kruskal should select the same edges in the same order");
+                assertEquals(sequential.totalCost, parallel.totalCost, 0.001,
+                        gd.name + ": Parallel Kruskal cost should match");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Filter-Kruskal should pick exactly the same edges as Kruskal")
+    public void testFilterKruskalSameEdges() {
+        Random random = new Random(42);
+        Graphs g = new Graphs(200);
+        for (int i = 1; i < 200; i++) {
+            g.addEdge(new Edges(random.nextInt(i), i, random.nextInt(1000)));
+        }
+        for (int i = 0; i < 5000; i++) {
+            g.addEdge(new Edges(random.nextInt(200), random.nextInt(200), random.nextInt(1000)));
+        }
+
+        Kruskal.Result sequential = Kruskal.run(g);
+        Kruskal.Result filter = Kruskal.runFilter(g);
+
+        assertEquals(sequential.mst, filter.mst,
+                "Filter-Kruskal should select the same edges in the same order");
+        assertEquals(199, filter.mst.size(), "Filter-Kruskal should have V-1 edges");
+        assertTrue(filter.ops.get("sorted") < g.edgeCount(),
+                "Filter-Kruskal should not sort every edge of a dense graph");
+    }
+
+    @Test
+    @DisplayName("Boruvka should match Kruskal on all datasets and disconnected graphs")
+    public void testBoruvkaMatchesKruskal() throws IOException {
+        String[] inputFiles = {
+                "src/main/resources/small.json",
+                "src/main/resources/medium.json",
+                "src/main/resources/large.json"
+        };
+
+        for (String inputFile : inputFiles) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                Kruskal.Result kruskalResult = Kruskal.run(gd.graph);
+                Boruvka.Result boruvkaResult = Boruvka.run(gd.graph);
+
+                assertEquals(kruskalResult.totalCost, boruvkaResult.totalCost, 0.001,
+                        gd.name + ": Boruvka cost should match Kruskal");
+                assertEquals(gd.graph.vertices() - 1, boruvkaResult.mst.size(),
+                        gd.name + ": Boruvka should have V-1 edges");
+                assertFalse(hasCycle(boruvkaResult.mst, gd.graph.vertices()),
+                        gd.name + ": Boruvka MST should be acyclic");
+            }
+        }
+
+        Graphs g = new Graphs(6);
+        g.addEdge(new Edges(0, 1, 1.0));
+        g.addEdge(new Edges(1, 2, 1.0));
+        g.addEdge(new Edges(0, 2, 1.0));
+        g.addEdge(new Edges(3, 4, 3.0));
+        g.addEdge(new Edges(4, 5, 4.0));
+
+        Boruvka.Result forest = Boruvka.run(g);
+        assertEquals(4, forest.mst.size(), "Boruvka should span every component");
+        assertEquals(9.0, forest.totalCost, 0.001, "Boruvka forest cost should be 1+1+3+4=9");
+        assertFalse(hasCycle(forest.mst, 6), "Equal weights must not create a cycle");
+    }
+
+    @Test
+    @DisplayName("Heap-based Kruskal should pick the same edges and stop early")
+    public void testHeapKruskalSameEdges() {
+        Random random = new Random(11);
+        Graphs g = new Graphs(100);
+        for (int i = 0; i < 100; i++) {
+            for (int j = i + 1; j < 100; j++) {
+                g.addEdge(new Edges(i, j, random.nextInt(50)));
+            }
+        }
+
+        Kruskal.Result sequential = Kruskal.run(g);
+        Kruskal.Result heap = Kruskal.runHeap(g);
+
+        assertEquals(sequential.mst, heap.mst,
+                "Heap-based Kruskal should select the same edges in the same order");
+        assertEquals(sequential.ops.get("comparisons"), heap.ops.get("comparisons"),
+                "Heap-based Kruskal should examine the same prefix of edges");
+        assertTrue(heap.ops.get("unextracted") > 0,
+                "Heap-based Kruskal should leave heavy edges of a complete graph unextracted");
+    }
+
+    @Test
+    @DisplayName("Dense Prim should match Prim on dense graphs with parallel edges")
+    public void testDensePrimMatchesPrim() throws IOException {
+        Random random = new Random(5);
+        Graphs g = new Graphs(60);
+        for (int i = 0; i < 60; i++) {
+            for (int j = i + 1; j < 60; j++) {
+                g.addEdge(new Edges(i, j, random.nextInt(100)));
+                if (random.nextInt(10) == 0)
+                    g.addEdge(new Edges(j, i, random.nextInt(100)));
+            }
+        }
+
+        Prim.Result heapResult = Prim.run(g, 0);
+        Prim.Result denseResult = Prim.runDense(g, 0);
+
+        assertEquals(heapResult.totalCost, denseResult.totalCost, 0.001,
+                "Dense Prim cost should match heap-based Prim");
+        assertEquals(59, denseResult.mst.size(), "Dense Prim should have V-1 edges");
+        assertTrue(isConnected(denseResult.mst, 60), "Dense Prim MST should connect all vertices");
+
+        for (JsonIO.GraphData gd : JsonIO.readGraphs("src/main/resources/medium.json")) {
+            assertEquals(Prim.run(gd.graph, 0).totalCost, Prim.runDense(gd.graph, 0).totalCost, 0.001,
+                    gd.name + ": Dense Prim cost should match heap-based Prim");
+        }
+    }
+
+    @Test
+    @DisplayName("MstSolver should pick an engine by density and still return the full MST")
+    public void testMstSolverSelection() throws IOException {
+        Graphs complete = new Graphs(4);
+        complete.addEdge(new Edges(0, 1, 1.0));
+        complete.addEdge(new Edges(0, 2, 4.0));
+        complete.addEdge(new Edges(0, 3, 3.0));
+        complete.addEdge(new Edges(1, 2, 2.0));
+        complete.addEdge(new Edges(1, 3, 5.0));
+        complete.addEdge(new Edges(2, 3, 6.0));
+
+        MstSolver.Result dense = MstSolver.solve(complete);
+        assertEquals(MstSolver.Engine.PRIM_DENSE, dense.engine, "Complete graph should use dense Prim");
+        assertEquals(6.0, dense.totalCost, 0.001);
+        assertTrue(dense.integerWeights);
+
+        MstSolver.Thresholds thresholds = new MstSolver.Thresholds();
+        thresholds.denseDensity = 2.0;
+        assertNotEquals(MstSolver.Engine.PRIM_DENSE, MstSolver.choose(complete, thresholds),
+                "Raising the dense threshold should move the choice away from dense Prim");
+
+        Graphs disconnected = new Graphs(6);
+        disconnected.addEdge(new Edges(0, 1, 1.0));
+        disconnected.addEdge(new Edges(1, 2, 2.0));
+        disconnected.addEdge(new Edges(0, 2, 2.5));
+        disconnected.addEdge(new Edges(3, 4, 3.0));
+        disconnected.addEdge(new Edges(4, 5, 4.0));
+        MstSolver.Thresholds eager = new MstSolver.Thresholds();
+        eager.denseDensity = 0.3;
+        MstSolver.Result forest = MstSolver.solve(disconnected, eager);
+        assertEquals(4, forest.mst.size(), "Solver should never return a partial Prim tree");
+        assertEquals(10.0, forest.totalCost, 0.001);
+        assertEquals(1, forest.ops.get("fallbacks").longValue(), "Dense Prim on a forest should fall back to Kruskal");
+
+        for (JsonIO.GraphData gd : JsonIO.readGraphs("src/main/resources/large.json")) {
+            assertEquals(Kruskal.run(gd.graph).totalCost, MstSolver.solve(gd.graph).totalCost, 0.001,
+                    gd.name + ": Solver cost should match Kruskal");
+        }
+    }
+
+    @Test
+    @DisplayName("Spanning forest should cover every component of a disconnected graph")
+    public void testSpanningForest() {
+        Graphs g = new Graphs(9);
+        g.addEdge(new Edges(0, 1, 1.0));
+        g.addEdge(new Edges(1, 2, 2.0));
+        g.addEdge(new Edges(0, 2, 5.0));
+        g.addEdge(new Edges(3, 4, 3.0));
+        g.addEdge(new Edges(4, 5, 4.0));
+        g.addEdge(new Edges(3, 5, 1.5));
+        g.addEdge(new Edges(6, 7, 7.0));
+
+        SpanningForest.Result forest = SpanningForest.run(g);
+
+        assertEquals(4, forest.components, "Vertex 8 is isolated, so there are four components");
+        assertEquals(5, forest.mst.size(), "A forest has V - components edges");
+        assertEquals(1.0 + 2.0 + 1.5 + 3.0 + 7.0, forest.totalCost, 0.001);
+        assertEquals(Kruskal.run(g).totalCost, forest.totalCost, 0.001,
+                "Forest cost should match Kruskal, which also spans every component");
+        assertFalse(hasCycle(forest.mst, g.vertices()), "Forest should be acyclic");
+        for (Edges e : forest.mst) {
+            assertTrue(g.edges().contains(e), "Forest should return the graph's own edge objects");
+        }
+    }
+
+    @Test
+    @DisplayName("External Kruskal should merge spilled runs into the same MST")
+    public void testExternalKruskalSameEdges() throws IOException {
+        Random random = new Random(42);
+        Graphs g = new Graphs(200);
+        for (int i = 1; i < 200; i++) {
+            g.addEdge(new Edges(random.nextInt(i), i, random.nextInt(1000)));
+        }
+        for (int i = 0; i < 5000; i++) {
+            g.addEdge(new Edges(random.nextInt(200), random.nextInt(200), random.nextInt(1000)));
+        }
+
+        Path tempDir = Files.createTempDirectory("mst-external");
+        try {
+            Kruskal.Result sequential = Kruskal.run(g);
+            Kruskal.Result external = ExternalKruskal.run(g, 256, tempDir);
+            Kruskal.Result streamed = ExternalKruskal.run(g.vertices(), g.edges().iterator(), 1000, tempDir);
+
+            assertEquals(sequential.mst.toString(), external.mst.toString(),
+                    "External Kruskal should select the same edges in the same order");
+            assertEquals(sequential.mst.toString(), streamed.mst.toString(),
+                    "Streamed external Kruskal should select the same edges in the same order");
+            assertTrue(external.ops.get("runs") > 1, "Small runs should spill to several files");
+            assertEquals(0, tempDir.toFile().list().length, "Run files should be deleted");
+        } finally {
+            Files.deleteIfExists(tempDir);
+        }
+    }
+
+    @Test
+    @DisplayName("Multi-edge filter should keep the lightest edge per pair and drop self-loops")
+    public void testMultiEdgeFilter() {
+        Random random = new Random(42);
+        Graphs g = new Graphs(50);
+        for (int i = 1; i < 50; i++) {
+            g.addEdge(new Edges(random.nextInt(i), i, random.nextInt(100)));
+        }
+        for (int i = 0; i < 20000; i++) {
+            g.addEdge(new Edges(random.nextInt(50), random.nextInt(50), random.nextInt(100)));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MultiEdgeFilter.Result filtered = MultiEdgeFilter.run(g, pool);
+            Set<Long> pairs = new HashSet<>();
+            long selfLoops = 0;
+            for (Edges e : g.edges()) {
+                if (e.u == e.v) {
+                    selfLoops++;
+                } else {
+                    pairs.add((long) Math.min(e.u, e.v) * 50 + Math.max(e.u, e.v));
+                }
+            }
+
+            assertEquals(pairs.size(), filtered.graph.edgeCount(), "One edge should survive per vertex pair");
+            assertEquals(selfLoops, filtered.selfLoops, "Every self-loop should be counted");
+            assertEquals(g.edgeCount() - pairs.size(), filtered.removed(), "Removed count should cover the rest");
+            assertEquals(Kruskal.run(g).mst, Kruskal.run(filtered.graph).mst,
+                    "Filtering should not change the edges Kruskal selects");
+            assertArrayEquals(filtered.kept, MultiEdgeFilter.run((EdgeList) g, pool).kept,
+                    "Index-only filtering should keep the same edges");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     private Graphs createTestGraph1() {
         Graphs g = new Graphs(5);
         g.addEdge(new Edges(0, 1, 2.0));
@@ -265,4 +589,4 @@ public class MSTCorrectnessTest {
         }
         return false;
     }
-}
\ No newline at end of file
+}
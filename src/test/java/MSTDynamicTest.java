@@ -0,0 +1,202 @@
+import Algoritm.DynamicMst;
+import Algoritm.FullyDynamicMst;
+import Algoritm.Kruskal;
+import Models.Edges;
+import Models.Graphs;
+import Util.JsonIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Dynamic MST Tests")
+public class MSTDynamicTest {
+
+    private static final String[] INPUT_FILES = {
+            "src/main/resources/small.json",
+            "src/main/resources/medium.json",
+            "src/main/resources/large.json"
+    };
+
+    @Test
+    @DisplayName("Insertions should keep the tree equal to a full recomputation")
+    public void testInsertMatchesRecompute() throws IOException {
+        Random random = new Random(42);
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                int V = gd.graph.vertices();
+                Graphs all = new Graphs(V, gd.graph.edgeCount() + 50);
+                for (Edges e : gd.graph.edges())
+                    all.addEdge(e);
+                DynamicMst dynamic = new DynamicMst(V, Kruskal.run(gd.graph).mst);
+
+                for (int i = 0; i < 50; i++) {
+                    Edges e = new Edges(random.nextInt(V), random.nextInt(V), random.nextInt(100) + 0.5);
+                    all.addEdge(e);
+                    dynamic.insert(e);
+                    assertEquals(Kruskal.run(all).totalCost, dynamic.totalCost(), 0.001,
+                            gd.name + ": Cost after insert " + i + " should match recomputation");
+                    assertEquals(V - 1, dynamic.size(), gd.name + ": Tree should keep V-1 edges");
+                }
+                assertEquals(50, dynamic.ops().get("inserts").longValue());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Insert should swap out the heaviest path edge or link two trees")
+    public void testInsertSwapAndLink() {
+        Edges ab = new Edges(0, 1, 5.0);
+        Edges bc = new Edges(1, 2, 1.0);
+        DynamicMst dynamic = new DynamicMst(4, List.of(ab, bc));
+        assertFalse(dynamic.connected(0, 3));
+
+        Edges cd = new Edges(2, 3, 2.0);
+        assertNull(dynamic.insert(cd), "Edge joining two trees should not drop anything");
+        assertTrue(dynamic.connected(0, 3));
+
+        Edges heavy = new Edges(0, 2, 6.0);
+        assertSame(heavy, dynamic.insert(heavy), "Heavier edge should be rejected");
+
+        Edges light = new Edges(0, 2, 3.0);
+        assertSame(ab, dynamic.insert(light), "Heaviest path edge should be swapped out");
+        assertTrue(dynamic.contains(light));
+        assertFalse(dynamic.contains(ab));
+        assertEquals(6.0, dynamic.totalCost(), 0.001);
+        assertEquals(List.of(bc, cd, light), dynamic.edges(), "Edges should come back in insertion order");
+    }
+
+    @Test
+    @DisplayName("Seeding from a long path tree should not search the forest per edge")
+    public void testSeedLargePathTree() {
+        int V = 200_000;
+        List<Edges> path = new ArrayList<>(V - 1);
+        for (int i = 0; i + 1 < V; i++)
+            path.add(new Edges(i, i + 1, i % 7 + 1.0));
+        DynamicMst dynamic = new DynamicMst(V, path);
+        assertEquals(V - 1, dynamic.size());
+        assertEquals(0L, dynamic.ops().get("visited").longValue(), "Seeding should not run the path search");
+        assertEquals(path, dynamic.edges(), "Edges should come back in insertion order");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new DynamicMst(3, List.of(new Edges(0, 1, 1.0), new Edges(1, 2, 1.0), new Edges(2, 0, 1.0))),
+                "A cycle in the initial edges should be rejected");
+    }
+
+    @Test
+    @DisplayName("Inserts, deletes and weight updates should match a full recomputation")
+    public void testFullyDynamicMatchesRecompute() throws IOException {
+        Random random = new Random(7);
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                int V = gd.graph.vertices();
+                List<Edges> live = new ArrayList<>(gd.graph.edges());
+                Map<Edges, Double> weights = new IdentityHashMap<>();
+                for (Edges e : live)
+                    weights.put(e, e.w);
+                String original = gd.graph.edges().toString();
+                FullyDynamicMst dynamic = FullyDynamicMst.from(gd.graph);
+                assertEquals(Kruskal.run(gd.graph).totalCost, dynamic.totalCost(), 0.001,
+                        gd.name + ": Initial cost should match Kruskal");
+
+                for (int i = 0; i < 60; i++) {
+                    int op = random.nextInt(3);
+                    if (op == 0 || live.isEmpty()) {
+                        Edges e = new Edges(random.nextInt(V), random.nextInt(V), random.nextInt(100) + 0.5);
+                        live.add(e);
+                        weights.put(e, e.w);
+                        dynamic.insert(e);
+                    } else if (op == 1) {
+                        Edges e = live.remove(random.nextInt(live.size()));
+                        assertTrue(dynamic.delete(e), gd.name + ": Live edge should be deleted");
+                    } else {
+                        Edges e = live.get(random.nextInt(live.size()));
+                        double w = random.nextInt(100) + 0.25;
+                        dynamic.updateWeight(e, w);
+                        weights.put(e, w);
+                        assertEquals(w, dynamic.weight(e), 0.0, gd.name + ": Updated weight should be tracked");
+                    }
+
+                    Graphs current = new Graphs(V, live.size());
+                    for (Edges e : live)
+                        current.addEdge(new Edges(e.u, e.v, weights.get(e)));
+                    Kruskal.Result expected = Kruskal.run(current);
+                    assertEquals(expected.totalCost, dynamic.totalCost(), 0.001,
+                            gd.name + ": Cost after operation " + i + " should match recomputation");
+                    assertEquals(expected.mst.size(), dynamic.size(), gd.name + ": Forest size should match");
+                }
+                assertEquals(original, gd.graph.edges().toString(), gd.name + ": Input graph should not be modified");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deleting a tree edge should pull in the cheapest replacement")
+    public void testFullyDynamicReplacement() {
+        FullyDynamicMst dynamic = new FullyDynamicMst(3);
+        Edges ab = new Edges(0, 1, 1.0);
+        Edges bc = new Edges(1, 2, 2.0);
+        Edges ac = new Edges(0, 2, 5.0);
+        dynamic.insert(ab);
+        dynamic.insert(bc);
+        dynamic.insert(ac);
+        assertFalse(dynamic.inTree(ac));
+        assertEquals(3.0, dynamic.totalCost(), 0.001);
+
+        dynamic.updateWeight(bc, 9.0);
+        assertEquals(2.0, bc.w, 0.0, "Caller's edge should keep its weight");
+        assertEquals(9.0, dynamic.weight(bc), 0.0);
+        assertTrue(dynamic.inTree(ac), "Lighter non-tree edge should replace the heavier tree edge");
+        assertFalse(dynamic.inTree(bc));
+        assertEquals(6.0, dynamic.totalCost(), 0.001);
+
+        assertTrue(dynamic.delete(ac));
+        assertTrue(dynamic.inTree(bc), "Deleted tree edge should be replaced");
+        assertEquals(10.0, dynamic.totalCost(), 0.001);
+        assertFalse(dynamic.delete(ac), "Deleting twice should report false");
+    }
+
+    @Test
+    @DisplayName("Tree edges should come back in the same order across identical runs")
+    public void testFullyDynamicTreeOrderStable() throws IOException {
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                assertEquals(treeAfterUpdates(gd.graph), treeAfterUpdates(gd.graph),
+                        gd.name + ": Tree edge order should not depend on object identity");
+            }
+        }
+
+        FullyDynamicMst dynamic = new FullyDynamicMst(4);
+        Edges cd = new Edges(2, 3, 1.0);
+        Edges ab = new Edges(0, 1, 2.0);
+        Edges bc = new Edges(1, 2, 3.0);
+        dynamic.insert(cd);
+        dynamic.insert(ab);
+        dynamic.insert(bc);
+        assertEquals(List.of(cd, ab, bc), dynamic.treeEdges(), "Tree edges should be in insertion order");
+    }
+
+    // Fresh edge objects every call, so two runs only agree if the order ignores identity hash codes.
+    private static String treeAfterUpdates(Graphs g) {
+        Random random = new Random(11);
+        List<Edges> live = new ArrayList<>();
+        for (Edges e : g.edges())
+            live.add(new Edges(e.u, e.v, e.w));
+        FullyDynamicMst dynamic = new FullyDynamicMst(g.vertices());
+        for (Edges e : live)
+            dynamic.insert(e);
+        for (int i = 0; i < 20 && !live.isEmpty(); i++) {
+            Edges e = live.get(random.nextInt(live.size()));
+            if (random.nextBoolean()) {
+                dynamic.updateWeight(e, random.nextInt(100) + 0.5);
+            } else {
+                dynamic.delete(e);
+                live.remove(e);
+            }
+        }
+        return dynamic.treeEdges().toString();
+    }
+}
@@ -0,0 +1,265 @@
+import Algoritm.Kruskal;
+import Algoritm.Prim;
+import Models.CsrGraph;
+import Models.EdgeStore;
+import Models.Edges;
+import Models.GraphBuilder;
+import Models.Graphs;
+import Models.OffHeapGraph;
+import Util.BinaryGraphIO;
+import Util.JsonIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MST Graph Representation Tests")
+public class MSTGraphRepresentationTest {
+
+    private static final String[] INPUT_FILES = {
+            "src/main/resources/small.json",
+            "src/main/resources/medium.json",
+            "src/main/resources/large.json"
+    };
+
+    @Test
+    @DisplayName("CSR graph should mirror the adjacency of Graphs")
+    public void testCsrMatchesGraphs() throws IOException {
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                Graphs g = gd.graph;
+                CsrGraph csr = CsrGraph.from(g);
+
+                assertEquals(g.vertices(), csr.vertices(), gd.name + ": Vertex count should match");
+                assertEquals(g.edgeCount(), csr.edgeCount(), gd.name + ": Edge count should match");
+
+                for (int v = 0; v < g.vertices(); v++) {
+                    assertEquals(g.adj(v).size(), csr.degree(v), gd.name + ": Degree of " + v + " should match");
+                    for (int i = csr.adjStart(v); i < csr.adjEnd(v); i++) {
+                        Edges e = g.edges().get(csr.adjEdge(i));
+                        assertEquals(e.other(v), csr.adjNeighbor(i), gd.name + ": Neighbor should match edge id");
+                        assertEquals(e.w, csr.adjWeight(i), 0.0, gd.name + ": Weight should match edge id");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Prim and Kruskal should run directly on a CSR graph")
+    public void testAlgorithmsOnCsr() throws IOException {
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                CsrGraph csr = CsrGraph.from(gd.graph);
+                double expected = Kruskal.run(gd.graph).totalCost;
+
+                Prim.Result prim = Prim.run(csr, 0);
+                Prim.Result lazy = Prim.runLazy(csr, 0);
+                Kruskal.Result kruskal = Kruskal.run(csr);
+
+                assertEquals(expected, prim.totalCost, 0.001, gd.name + ": CSR Prim cost should match");
+                assertEquals(expected, lazy.totalCost, 0.001, gd.name + ": CSR lazy Prim cost should match");
+                assertEquals(expected, kruskal.totalCost, 0.001, gd.name + ": CSR Kruskal cost should match");
+                assertEquals(csr.vertices() - 1, prim.mst.size(), gd.name + ": CSR Prim should have V-1 edges");
+                assertEquals(csr.vertices() - 1, kruskal.mst.size(), gd.name + ": CSR Kruskal should have V-1 edges");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Edge store should grow, convert and feed both algorithms")
+    public void testEdgeStore() throws IOException {
+        EdgeStore store = new EdgeStore(4, 1);
+        store.add(0, 1, 1.0);
+        store.add(1, 2, 2.0);
+        store.add(2, 3, 3.0);
+        store.addAll(new int[] { 0, 1 }, new int[] { 3, 3 }, new double[] { 0.5, 4.0 }, 0, 2);
+
+        assertEquals(5, store.edgeCount());
+        assertEquals(0.5, store.edgeWeight(3), 0.0);
+        assertEquals(3.5, Kruskal.run(store).totalCost, 0.001);
+        assertEquals(3.5, Prim.run(CsrGraph.from(store), 0).totalCost, 0.001);
+        assertEquals(3.5, Kruskal.run(store.toGraphs()).totalCost, 0.001);
+
+        for (String inputFile : INPUT_FILES) {
+            List<JsonIO.GraphData> graphs = JsonIO.readGraphs(inputFile);
+            List<JsonIO.EdgeStoreData> stores = JsonIO.readEdgeStores(inputFile);
+            assertEquals(graphs.size(), stores.size(), inputFile + ": Same number of graphs");
+
+            for (int i = 0; i < graphs.size(); i++) {
+                assertEquals(graphs.get(i).name, stores.get(i).name);
+                assertEquals(graphs.get(i).graph.edgeCount(), stores.get(i).edges.edgeCount());
+                assertEquals(Kruskal.run(graphs.get(i).graph).totalCost, Kruskal.run(stores.get(i).edges).totalCost,
+                        0.001, stores.get(i).name + ": Edge store Kruskal cost should match");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Off-heap graph should mirror CSR and run both algorithms")
+    public void testOffHeapGraph() throws IOException {
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                CsrGraph csr = CsrGraph.from(gd.graph);
+                try (OffHeapGraph off = OffHeapGraph.from(gd.graph)) {
+                    assertEquals(csr.vertices(), off.vertices());
+                    assertEquals(csr.edgeCount(), off.edgeCount());
+                    for (int v = 0; v < csr.vertices(); v++) {
+                        assertEquals(csr.adjStart(v), off.adjStart(v), gd.name + ": Adjacency start should match");
+                        assertEquals(csr.adjEnd(v), off.adjEnd(v), gd.name + ": Adjacency end should match");
+                    }
+                    for (int i = 0; i < 2 * csr.edgeCount(); i++) {
+                        assertEquals(csr.adjNeighbor(i), off.adjNeighbor(i));
+                        assertEquals(csr.adjEdge(i), off.adjEdge(i));
+                        assertEquals(csr.adjWeight(i), off.adjWeight(i), 0.0);
+                    }
+
+                    double expected = Kruskal.run(gd.graph).totalCost;
+                    assertEquals(expected, Prim.run(off, 0).totalCost, 0.001, gd.name + ": Off-heap Prim cost should match");
+                    assertEquals(expected, Kruskal.run(off).totalCost, 0.001, gd.name + ": Off-heap Kruskal cost should match");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Graph builder should accept bulk edges and freeze into a CSR graph")
+    public void testGraphBuilder() throws IOException {
+        GraphBuilder builder = new GraphBuilder(4, 2);
+        builder.addEdge(0, 1, 1.0)
+                .addEdges(new int[] { 1, 2, 0 }, new int[] { 2, 3, 3 }, new double[] { 2.0, 3.0, 0.5 });
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(0, 4, 1.0),
+                "Out of range endpoints should be rejected");
+
+        CsrGraph frozen = builder.freeze();
+        assertEquals(4, frozen.edgeCount());
+        assertEquals(3.5, Kruskal.run(frozen).totalCost, 0.001);
+        assertEquals(3.5, Prim.run(frozen, 0).totalCost, 0.001);
+        assertThrows(IllegalStateException.class, () -> builder.addEdge(0, 1, 1.0),
+                "A frozen builder should not accept edges");
+
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                CsrGraph csr = new GraphBuilder(gd.graph.vertices(), gd.graph.edgeCount()).addEdges(gd.graph).freeze();
+                assertEquals(gd.graph.edgeCount(), csr.edgeCount());
+                assertEquals(Kruskal.run(gd.graph).totalCost, Prim.run(csr, 0).totalCost, 0.001,
+                        gd.name + ": Frozen graph Prim cost should match");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("CSR graph should sort its edges once across repeated Kruskal runs")
+    public void testSortedOrderCache() throws IOException {
+        for (String inputFile : INPUT_FILES) {
+            for (JsonIO.GraphData gd : JsonIO.readGraphs(inputFile)) {
+                CsrGraph csr = CsrGraph.from(gd.graph);
+                Kruskal.Result first = Kruskal.run(csr);
+                Kruskal.Result second = Kruskal.run(csr);
+
+                assertEquals(1, first.ops.get("sortCacheMisses").longValue(), gd.name + ": First run should sort");
+                assertEquals(0, first.ops.get("sortCacheHits").longValue());
+                assertEquals(1, second.ops.get("sortCacheHits").longValue(), gd.name + ": Second run should reuse the order");
+                assertEquals(0, second.ops.get("sortCacheMisses").longValue());
+                assertEquals(first.totalCost, second.totalCost, 0.0, gd.name + ": Cached order should give the same MST");
+                assertEquals(Kruskal.run(gd.graph).totalCost, second.totalCost, 0.001);
+
+                CsrGraph shared = CsrGraph.from(gd.graph);
+                List<Kruskal.Result> concurrent = IntStream.range(0, 8).parallel()
+                        .mapToObj(i -> Kruskal.run(shared)).toList();
+                long misses = 0, hits = 0;
+                for (Kruskal.Result r : concurrent) {
+                    misses += r.ops.get("sortCacheMisses");
+                    hits += r.ops.get("sortCacheHits");
+                }
+                assertEquals(1, misses, gd.name + ": Concurrent first runs should count exactly one sort");
+                assertEquals(7, hits, gd.name + ": Every other concurrent run should count a hit");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Binary graph files should map back to the same graph with or without CSR")
+    public void testBinaryGraphRoundTrip() throws IOException {
+        Path dir = Files.createTempDirectory("mst-binary");
+        try {
+            for (String inputFile : INPUT_FILES) {
+                List<JsonIO.GraphData> graphs = JsonIO.readGraphs(inputFile);
+                List<Path> files = BinaryGraphIO.convertJson(inputFile, dir, true);
+                assertEquals(graphs.size(), files.size(), inputFile + ": One binary file per graph");
+
+                for (int i = 0; i < graphs.size(); i++) {
+                    Graphs g = graphs.get(i).graph;
+                    Path plain = dir.resolve("plain" + BinaryGraphIO.EXTENSION);
+                    BinaryGraphIO.write(plain, g, false, false);
+
+                    for (Path file : List.of(files.get(i), plain)) {
+                        try (OffHeapGraph mapped = BinaryGraphIO.map(file)) {
+                            assertEquals(g.vertices(), mapped.vertices());
+                            assertEquals(g.edgeCount(), mapped.edgeCount());
+                            for (int e = 0; e < g.edgeCount(); e++) {
+                                assertEquals(g.edgeU(e), mapped.edgeU(e));
+                                assertEquals(g.edgeV(e), mapped.edgeV(e));
+                                assertEquals(g.edgeWeight(e), mapped.edgeWeight(e), 0.0);
+                            }
+                            assertEquals(Kruskal.run(g).totalCost, Prim.run(mapped, 0).totalCost, 0.001,
+                                    file + ": Mapped Prim cost should match");
+                        }
+                    }
+                    Files.delete(plain);
+                }
+                for (Path file : files)
+                    Files.delete(file);
+            }
+
+            Path json = dir.resolve("names.json");
+            Files.writeString(json, "{\"graphs\": [{\"name\": \"a b\", \"vertices\": 2, \"edges\": [{\"u\": 0, \"v\": 1, \"w\": 1}]},"
+                    + "{\"name\": \"a_b\", \"vertices\": 3, \"edges\": []},"
+                    + "{\"name\": \"a b\", \"vertices\": 4, \"edges\": []}]}");
+            List<Path> files = BinaryGraphIO.convertJson(json.toString(), dir, false);
+            assertEquals(3, new HashSet<>(files).size(), "Clashing graph names should still get distinct files");
+            for (int i = 0; i < files.size(); i++) {
+                try (OffHeapGraph mapped = BinaryGraphIO.map(files.get(i))) {
+                    assertEquals(i + 2, mapped.vertices(), files.get(i) + ": Each file should hold its own graph");
+                }
+                Files.delete(files.get(i));
+            }
+            Files.delete(json);
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("Binary graph files with a bad header should be rejected")
+    public void testBinaryGraphBadHeader() throws IOException {
+        Graphs g = new Graphs(3);
+        g.addEdge(new Edges(0, 1, 1.5));
+        g.addEdge(new Edges(1, 2, 2.5));
+        Path file = Files.createTempFile("mst-header", BinaryGraphIO.EXTENSION);
+        try {
+            BinaryGraphIO.write(file, g, false, true);
+            byte[] valid = Files.readAllBytes(file);
+
+            // Header fields are little-endian ints: V at offset 8, E at 12, weight type at 16.
+            Object[][] cases = { { 16, 7, "weight type" }, { 8, -1, "bad header" }, { 12, -5, "bad header" } };
+            for (Object[] c : cases) {
+                byte[] bytes = valid.clone();
+                ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt((Integer) c[0], (Integer) c[1]);
+                Files.write(file, bytes);
+                IOException e = assertThrows(IOException.class, () -> BinaryGraphIO.map(file).close());
+                assertTrue(e.getMessage().contains((String) c[2]), "Unexpected message: " + e.getMessage());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
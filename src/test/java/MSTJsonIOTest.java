@@ -0,0 +1,267 @@
+import Models.EdgeStore;
+import Util.CSVwriter;
+import Util.JsonGraphReader;
+import Util.JsonIO;
+import Util.NumberParser;
+import Util.ParallelGraphLoader;
+import Util.ResultRecord;
+import Util.ResultWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JSON IO Tests")
+public class MSTJsonIOTest {
+
+    private static List<JsonIO.EdgeStoreData> readAll(String json, int bufferSize) throws IOException {
+        List<JsonIO.EdgeStoreData> graphs = new ArrayList<>();
+        try (JsonGraphReader reader = new JsonGraphReader(new StringReader(json), bufferSize)) {
+            JsonIO.EdgeStoreData data;
+            while ((data = reader.next()) != null)
+                graphs.add(data);
+        }
+        return graphs;
+    }
+
+    @Test
+    @DisplayName("Streaming reader should parse the bundled inputs")
+    public void testBundledInputs() throws IOException {
+        List<JsonIO.EdgeStoreData> small = JsonIO.readEdgeStores("src/main/resources/small.json");
+        assertFalse(small.isEmpty(), "small.json should contain graphs");
+        assertEquals("Small-4vertices", small.get(0).name);
+        EdgeStore first = small.get(0).edges;
+        assertEquals(4, first.vertices());
+        assertEquals(5, first.edgeCount());
+        assertEquals(0, first.edgeU(0));
+        assertEquals(1, first.edgeV(0));
+        assertEquals(10.0, first.edgeWeight(0), 0.0);
+        assertEquals(4.0, first.edgeWeight(4), 0.0);
+    }
+
+    @Test
+    @DisplayName("Streaming reader should handle key order, unknown fields, escapes and exponents")
+    public void testJsonSyntax() throws IOException {
+        String json = "{\"meta\": {\"tags\": [\"a\", 1, true, null]}, \"graphs\": [\n"
+                + "  {\"edges\": [{\"w\": 1.5e1, \"v\": 1, \"u\": 0, \"note\": \"x\"}, {\"u\": 1, \"v\": 2, \"w\": -2.5E-1}],\n"
+                + "   \"name\": \"A \\\"quoted\\\" \\u0041\", \"vertices\": 3, \"extra\": [[], {}]},\n"
+                + "  {\"name\": \"Empty\", \"vertices\": 2.0, \"edges\": []}\n"
+                + "], \"trailer\": false}";
+
+        for (int bufferSize : new int[] { 16, 1 << 16 }) {
+            List<JsonIO.EdgeStoreData> graphs = readAll(json, bufferSize);
+            assertEquals(2, graphs.size(), "Both graphs should be read with buffer " + bufferSize);
+            assertEquals("A \"quoted\" A", graphs.get(0).name);
+            assertEquals(3, graphs.get(0).edges.vertices(), "Vertices after edges should still apply");
+            assertEquals(15.0, graphs.get(0).edges.edgeWeight(0), 0.0);
+            assertEquals(-0.25, graphs.get(0).edges.edgeWeight(1), 0.0);
+            assertEquals(2, graphs.get(1).edges.vertices(), "Integral 2.0 should be accepted as an int");
+            assertEquals(0, graphs.get(1).edges.edgeCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed input should raise an IOException with the offset")
+    public void testMalformedInput() {
+        IOException e = assertThrows(IOException.class,
+                () -> readAll("{\"graphs\": [{\"name\": \"x\", \"vertices\": 2 \"edges\": []}]}", 64));
+        assertTrue(e.getMessage().contains("offset"), "Message should point at the offset");
+        assertThrows(IOException.class, () -> readAll("{\"graphs\": [{\"vertices\": 1.5}]}", 64));
+        assertThrows(IOException.class, () -> readAll("{\"graphs\": [{\"name\": \"unterminated", 64));
+    }
+
+    @Test
+    @DisplayName("Graph stream should match readGraphs and parse lazily")
+    public void testStreamGraphs() throws IOException {
+        String inputFile = "src/main/resources/medium.json";
+        List<JsonIO.GraphData> eager = JsonIO.readGraphs(inputFile);
+        try (Stream<JsonIO.GraphData> lazy = JsonIO.streamGraphs(Paths.get(inputFile))) {
+            List<String> names = lazy.map(gd -> gd.name + "/" + gd.graph.edgeCount()).collect(Collectors.toList());
+            assertEquals(eager.stream().map(gd -> gd.name + "/" + gd.graph.edgeCount()).collect(Collectors.toList()), names);
+        }
+
+        Path file = Files.createTempFile("mst-stream", ".json");
+        try {
+            Files.writeString(file, "{\"graphs\": [{\"name\": \"ok\", \"vertices\": 2, \"edges\": [{\"u\": 0, \"v\": 1, \"w\": 1}]},"
+                    + " {\"name\": broken}]}");
+            try (Stream<JsonIO.GraphData> lazy = JsonIO.streamGraphs(file)) {
+                Iterator<JsonIO.GraphData> it = lazy.iterator();
+                assertEquals("ok", it.next().name, "First graph should arrive before the bad one is parsed");
+                assertThrows(UncheckedIOException.class, it::hasNext, "Second graph should fail when pulled");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel loader should return every file's graphs in document order")
+    public void testParallelLoad() throws IOException {
+        List<Path> files = List.of(Paths.get("src/main/resources/small.json"),
+                Paths.get("src/main/resources/medium.json"), Paths.get("src/main/resources/large.json"));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<List<JsonIO.GraphData>> loaded = ParallelGraphLoader.load(files, pool);
+            assertEquals(files.size(), loaded.size());
+            for (int f = 0; f < files.size(); f++) {
+                List<JsonIO.GraphData> expected = JsonIO.readGraphs(files.get(f).toString());
+                assertEquals(expected.size(), loaded.get(f).size(), files.get(f) + ": Same number of graphs");
+                for (int i = 0; i < expected.size(); i++) {
+                    JsonIO.GraphData a = expected.get(i);
+                    JsonIO.GraphData b = loaded.get(f).get(i);
+                    assertEquals(a.name, b.name, files.get(f) + ": Graph order should be preserved");
+                    assertEquals(a.graph.vertices(), b.graph.vertices());
+                    assertEquals(a.graph.edges().toString(), b.graph.edges().toString(), a.name + ": Same edges");
+                }
+            }
+
+            Path tricky = Files.createTempFile("mst-parallel", ".json");
+            try {
+                Files.writeString(tricky, "{\"meta\": {\"graphs\": [{}]}, \"graphs\": ["
+                        + "{\"name\": \"br{ace]s \\\"}\", \"vertices\": 1, \"edges\": []}, {\"name\": \"b\", \"vertices\": 2}]}");
+                List<JsonIO.GraphData> graphs = ParallelGraphLoader.load(List.of(tricky), pool).get(0);
+                assertEquals(2, graphs.size(), "Only the top-level graphs array should be split");
+                assertEquals("br{ace]s \"}", graphs.get(0).name, "Brackets inside strings should be ignored");
+                assertEquals(2, graphs.get(1).graph.vertices());
+            } finally {
+                Files.deleteIfExists(tricky);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Number parser should agree with Double.parseDouble on JSON numbers")
+    public void testNumberParser() throws IOException {
+        NumberParser parser = new NumberParser();
+        Random random = new Random(42);
+        List<String> numbers = new ArrayList<>(List.of("0", "-0", "7", "-42", "10", "1.5", "-2.5E-1", "1e-3", "6.02e23",
+                "123456789012345678901234", "0.1000000000000000055511151231257827021181583404541015625",
+                "9007199254740993", "1E400", "4.9e-324", "2.2250738585072014E-308", "0.000001"));
+        for (int i = 0; i < 2000; i++) {
+            numbers.add(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+            numbers.add(Integer.toString(random.nextInt()));
+            numbers.add(random.nextInt(100000) + "." + random.nextInt(1000) + "e" + (random.nextInt(60) - 30));
+        }
+
+        for (String number : numbers) {
+            char[] chars = (number + ",").toCharArray();
+            double parsed = parser.parse(chars, 0, chars.length);
+            assertEquals(Double.doubleToLongBits(Double.parseDouble(number)), Double.doubleToLongBits(parsed),
+                    number + " should parse exactly");
+            assertEquals(number.length(), parser.end(), number + " should stop before the separator");
+        }
+        assertTrue(parser.fastPaths() > parser.fallbacks(), "Most numbers should take the fast path");
+
+        char[] integer = "-2147483648}".toCharArray();
+        parser.parse(integer, 0, integer.length);
+        assertTrue(parser.isInteger());
+        assertEquals(Integer.MIN_VALUE, parser.longValue());
+
+        for (String bad : new String[] { "-", "01", "1.", ".5", "1e", "1e+" }) {
+            char[] chars = bad.toCharArray();
+            boolean rejected;
+            try {
+                parser.parse(chars, 0, chars.length);
+                rejected = parser.end() != chars.length;
+            } catch (NumberFormatException e) {
+                rejected = true;
+            }
+            assertTrue(rejected, bad + " should be rejected");
+        }
+
+        String json = "{\"graphs\": [{\"name\": \"n\", \"vertices\": 2, \"edges\": [{\"u\": 0, \"v\": 1, "
+                + "\"w\": 0.1000000000000000055511151231257827021181583404541015625}]}]}";
+        assertEquals(0.1, readAll(json, 16).get(0).edges.edgeWeight(0), 0.0, "Numbers longer than the buffer should parse");
+    }
+
+    @Test
+    @DisplayName("Result writer should stream one compact line per record and keep the pretty format")
+    public void testResultWriter() throws IOException {
+        Map<String, Long> ops = new LinkedHashMap<>();
+        ops.put("comparisons", 12L);
+        ops.put("unions", 3L);
+        ResultRecord compared = new ResultRecord("Quoted \"g\"", 4, 5,
+                19.0, 1, ops, 19.0, 2, ops, 19.5, 3, ops);
+        ResultRecord selected = new ResultRecord("auto", 3, 3, "PRIM_DENSE", 1.0, 7.25, 0, ops);
+
+        StringWriter lines = new StringWriter();
+        try (ResultWriter writer = new ResultWriter(lines, ResultWriter.Format.JSON_LINES)) {
+            writer.write(compared);
+            writer.write(selected);
+            assertEquals(2, writer.count());
+        }
+        String[] records = lines.toString().split("\n");
+        assertEquals(2, records.length, "Each record should be exactly one line");
+        assertEquals("{\"graphName\":\"Quoted \\\"g\\\"\",\"vertices\":4,\"edges\":5,"
+                + "\"prim\":{\"totalCost\":19.0,\"timeMs\":1,\"operations\":{\"comparisons\":12,\"unions\":3}},"
+                + "\"kruskal\":{\"totalCost\":19.0,\"timeMs\":2,\"operations\":{\"comparisons\":12,\"unions\":3}},"
+                + "\"boruvka\":{\"totalCost\":19.5,\"timeMs\":3,\"operations\":{\"comparisons\":12,\"unions\":3}}}",
+                records[0]);
+        assertEquals("{\"graphName\":\"auto\",\"vertices\":3,\"edges\":3,\"selected\":{\"engine\":\"PRIM_DENSE\","
+                + "\"density\":1.0,\"totalCost\":7.25,\"timeMs\":0,\"operations\":{\"comparisons\":12,\"unions\":3}}}",
+                records[1]);
+
+        String n = System.lineSeparator();
+        StringWriter pretty = new StringWriter();
+        try (ResultWriter writer = new ResultWriter(pretty, ResultWriter.Format.JSON)) {
+            writer.write(selected);
+            writer.write(selected);
+        }
+        String block = "    {" + n
+                + "      \"graphName\": \"auto\"," + n
+                + "      \"vertices\": 3," + n
+                + "      \"edges\": 3," + n
+                + "      \"selected\": {" + n
+                + "        \"engine\": \"PRIM_DENSE\"," + n
+                + "        \"density\": 1.0," + n
+                + "        \"totalCost\": 7.25," + n
+                + "        \"timeMs\": 0," + n
+                + "        \"operations\": {" + n
+                + "          \"comparisons\": 12," + n
+                + "          \"unions\": 3" + n
+                + "        }" + n
+                + "      }" + n
+                + "    }";
+        assertEquals("{" + n + "  \"results\": [" + n + block + "," + n + block + n + "  ]" + n + "}" + n, pretty.toString());
+
+        StringWriter empty = new StringWriter();
+        new ResultWriter(empty, ResultWriter.Format.JSON).close();
+        assertEquals("{" + n + "  \"results\": [" + n + "  ]" + n + "}" + n, empty.toString(),
+                "An empty batch should still be a valid document");
+    }
+
+    @Test
+    @DisplayName("CSV sink should quote names containing commas or quotes")
+    public void testCsvQuoting() throws IOException {
+        Map<String, Long> ops = Map.of("comparisons", 4L);
+        Path file = Files.createTempFile("mst-results", ".csv");
+        try {
+            try (CSVwriter csv = new CSVwriter(file.toString())) {
+                csv.write(new ResultRecord("plain", 3, 3, "PRIM_DENSE", 1.0, 7.0, 0, ops));
+                csv.write(new ResultRecord("a, \"b\"", 3, 3, "PRIM_DENSE", 1.0, 7.0, 0, ops));
+            }
+            List<String> rows = Files.readAllLines(file);
+            assertEquals(3, rows.size(), "Header plus one row per record");
+            assertTrue(rows.get(1).startsWith("plain,3,3,"), "Plain names should stay unquoted");
+            assertTrue(rows.get(2).startsWith("\"a, \"\"b\"\"\",3,3,"), "Name should be quoted with doubled quotes");
+            assertEquals(rows.get(1).split(",", -1).length, rows.get(2).replace("\"a, \"\"b\"\"\"", "x").split(",", -1).length,
+                    "Quoted row should have the same number of columns");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
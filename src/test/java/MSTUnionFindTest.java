@@ -0,0 +1,93 @@
+import Algoritm.UnionFind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Union-Find Tests")
+public class MSTUnionFindTest {
+
+    @Test
+    @DisplayName("Sequential union-find should merge sets and count operations")
+    public void testSequentialUnionFind() {
+        UnionFind uf = UnionFind.sequential(6);
+
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(2, 3));
+        assertTrue(uf.union(1, 3));
+        assertFalse(uf.union(0, 2), "0 and 2 are already connected");
+
+        assertTrue(uf.connected(0, 3));
+        assertFalse(uf.connected(0, 4));
+        assertEquals(uf.find(0), uf.find(2));
+        assertEquals(4, uf.unions());
+        assertTrue(uf.finds() >= 8, "Every union should perform two finds");
+    }
+
+    @Test
+    @DisplayName("Sequential union-find should handle long chains without recursion")
+    public void testSequentialUnionFindLongChain() {
+        int n = 1_000_000;
+        UnionFind uf = UnionFind.sequential(n);
+        for (int i = 1; i < n; i++) {
+            uf.union(i - 1, i);
+        }
+        assertTrue(uf.connected(0, n - 1));
+    }
+
+    @Test
+    @DisplayName("Concurrent union-find should agree with sequential union-find under contention")
+    public void testConcurrentUnionFindMatchesSequential() throws Exception {
+        int n = 20_000;
+        int m = 40_000;
+        Random random = new Random(7);
+        int[] a = new int[m];
+        int[] b = new int[m];
+        for (int i = 0; i < m; i++) {
+            a[i] = random.nextInt(n);
+            b[i] = random.nextInt(n);
+        }
+
+        UnionFind sequential = UnionFind.sequential(n);
+        int expectedMerges = 0;
+        for (int i = 0; i < m; i++) {
+            if (sequential.union(a[i], b[i]))
+                expectedMerges++;
+        }
+
+        UnionFind concurrent = UnionFind.concurrent(n);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    int merges = 0;
+                    for (int i = offset; i < m; i += threads) {
+                        if (concurrent.union(a[i], b[i]))
+                            merges++;
+                    }
+                    return merges;
+                }));
+            }
+            int merges = 0;
+            for (Future<Integer> f : futures) {
+                merges += f.get();
+            }
+            assertEquals(expectedMerges, merges, "Each successful link should be reported exactly once");
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            int x = random.nextInt(n);
+            int y = random.nextInt(n);
+            assertEquals(sequential.connected(x, y), concurrent.connected(x, y),
+                    "Connectivity of " + x + " and " + y + " should match");
+        }
+    }
+}